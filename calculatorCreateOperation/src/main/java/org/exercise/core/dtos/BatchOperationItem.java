@@ -0,0 +1,6 @@
+package org.exercise.core.dtos;
+
+import java.math.BigDecimal;
+
+public record BatchOperationItem(String type, BigDecimal value1, BigDecimal value2) {
+}
@@ -0,0 +1,16 @@
+package org.exercise.core.dtos;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.exercise.core.entities.Record;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchOperationResult(int index, String type, Record record, String error) {
+
+    public static BatchOperationResult success(int index, String type, Record record) {
+        return new BatchOperationResult(index, type, record, null);
+    }
+
+    public static BatchOperationResult failure(int index, String type, String error) {
+        return new BatchOperationResult(index, type, null, error);
+    }
+}
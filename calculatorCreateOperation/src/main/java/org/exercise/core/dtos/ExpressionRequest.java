@@ -0,0 +1,7 @@
+package org.exercise.core.dtos;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record ExpressionRequest(String expression, Map<String, BigDecimal> variables) {
+}
@@ -0,0 +1,9 @@
+package org.exercise.core.dtos;
+
+public record TokenCacheStats(long hits, long misses, long evictions, int size) {
+
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
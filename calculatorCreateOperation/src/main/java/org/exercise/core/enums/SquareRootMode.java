@@ -0,0 +1,19 @@
+package org.exercise.core.enums;
+
+public enum SquareRootMode {
+
+    NEWTON,
+    CORRECTLY_ROUNDED;
+
+    public static SquareRootMode fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return NEWTON;
+        }
+
+        try {
+            return SquareRootMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return NEWTON;
+        }
+    }
+}
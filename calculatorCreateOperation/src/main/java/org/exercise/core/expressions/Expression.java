@@ -0,0 +1,47 @@
+package org.exercise.core.expressions;
+
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.exceptions.BadRequestException;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public sealed interface Expression permits Expression.Literal, Expression.Variable, Expression.Node {
+
+    BigDecimal evaluate(Map<String, BigDecimal> variables, Calculator calculator);
+
+    @FunctionalInterface
+    interface Calculator {
+        BigDecimal calculate(OperationType type, BigDecimal value1, BigDecimal value2);
+    }
+
+    record Literal(BigDecimal value) implements Expression {
+
+        @Override
+        public BigDecimal evaluate(Map<String, BigDecimal> variables, Calculator calculator) {
+            return value;
+        }
+    }
+
+    record Variable(String name) implements Expression {
+
+        @Override
+        public BigDecimal evaluate(Map<String, BigDecimal> variables, Calculator calculator) {
+            BigDecimal value = variables == null ? null : variables.get(name);
+            if (value == null) {
+                throw new BadRequestException("Missing value for expression variable: " + name);
+            }
+            return value;
+        }
+    }
+
+    record Node(OperationType type, Expression left, Expression right) implements Expression {
+
+        @Override
+        public BigDecimal evaluate(Map<String, BigDecimal> variables, Calculator calculator) {
+            BigDecimal value1 = left.evaluate(variables, calculator);
+            BigDecimal value2 = right == null ? null : right.evaluate(variables, calculator);
+            return calculator.calculate(type, value1, value2);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.exercise.core.expressions;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class ExpressionCompiler {
+
+    static final int CACHE_SIZE = 256;
+
+    private final Map<String, ExpressionProgram> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ExpressionProgram> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    public ExpressionProgram compile(String expression) {
+        synchronized (cache) {
+            ExpressionProgram program = cache.get(expression);
+            if (program != null) {
+                return program;
+            }
+        }
+
+        ExpressionProgram program = ExpressionParser.parse(expression);
+        synchronized (cache) {
+            cache.put(expression, program);
+        }
+        return program;
+    }
+
+    int cachedPrograms() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
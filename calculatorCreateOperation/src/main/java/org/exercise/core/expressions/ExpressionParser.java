@@ -0,0 +1,184 @@
+package org.exercise.core.expressions;
+
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.exceptions.BadRequestException;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Recursive descent parser for infix expressions over the numeric operation types:
+ *
+ *   expression := term (('+' | '-') term)*
+ *   term       := unary (('*' | '/') unary)*
+ *   unary      := '-' unary | primary
+ *   primary    := number | variable | 'sqrt' '(' expression ')' | '(' expression ')'
+ */
+public final class ExpressionParser {
+
+    static final int MAX_LENGTH = 1000;
+    static final int MAX_DEPTH = 64;
+
+    private final String source;
+    private final Map<OperationType, Integer> operationCounts = new EnumMap<>(OperationType.class);
+    private final Set<String> variables = new LinkedHashSet<>();
+    private int position;
+    private int depth;
+
+    private ExpressionParser(String source) {
+        this.source = source;
+    }
+
+    public static ExpressionProgram parse(String source) {
+        if (source == null || source.isBlank()) {
+            throw new BadRequestException("Expression is required");
+        }
+        if (source.length() > MAX_LENGTH) {
+            throw new BadRequestException("Expression cannot be longer than " + MAX_LENGTH + " characters");
+        }
+
+        ExpressionParser parser = new ExpressionParser(source);
+        Expression root = parser.parseExpression();
+        parser.skipWhitespace();
+        if (parser.position < source.length()) {
+            throw parser.error("Unexpected character '" + source.charAt(parser.position) + "'");
+        }
+
+        return new ExpressionProgram(source, root, Collections.unmodifiableMap(parser.operationCounts),
+                Collections.unmodifiableSet(parser.variables));
+    }
+
+    private Expression parseExpression() {
+        if (++depth > MAX_DEPTH) {
+            throw error("Expression is nested too deeply");
+        }
+
+        Expression left = parseTerm();
+        while (true) {
+            if (accept('+')) {
+                left = node(OperationType.ADDITION, left, parseTerm());
+            } else if (accept('-')) {
+                left = node(OperationType.SUBTRACTION, left, parseTerm());
+            } else {
+                depth--;
+                return left;
+            }
+        }
+    }
+
+    private Expression parseTerm() {
+        Expression left = parseUnary();
+        while (true) {
+            if (accept('*')) {
+                left = node(OperationType.MULTIPLICATION, left, parseUnary());
+            } else if (accept('/')) {
+                left = node(OperationType.DIVISION, left, parseUnary());
+            } else {
+                return left;
+            }
+        }
+    }
+
+    private Expression parseUnary() {
+        if (!accept('-')) {
+            return parsePrimary();
+        }
+
+        skipWhitespace();
+        if (position < source.length() && isNumberStart(source.charAt(position))) {
+            return new Expression.Literal(parseNumber().negate());
+        }
+        return node(OperationType.SUBTRACTION, new Expression.Literal(BigDecimal.ZERO), parseUnary());
+    }
+
+    private Expression parsePrimary() {
+        skipWhitespace();
+        if (position >= source.length()) {
+            throw error("Unexpected end of expression");
+        }
+
+        char current = source.charAt(position);
+        if (accept('(')) {
+            Expression inner = parseExpression();
+            expect(')');
+            return inner;
+        }
+        if (isNumberStart(current)) {
+            return new Expression.Literal(parseNumber());
+        }
+        if (Character.isLetter(current) || current == '_') {
+            String identifier = parseIdentifier();
+            if ("sqrt".equalsIgnoreCase(identifier)) {
+                expect('(');
+                Expression argument = parseExpression();
+                expect(')');
+                return node(OperationType.SQUARE_ROOT, argument, null);
+            }
+            variables.add(identifier);
+            return new Expression.Variable(identifier);
+        }
+
+        throw error("Unexpected character '" + current + "'");
+    }
+
+    private Expression node(OperationType type, Expression left, Expression right) {
+        operationCounts.merge(type, 1, Integer::sum);
+        return new Expression.Node(type, left, right);
+    }
+
+    private BigDecimal parseNumber() {
+        int start = position;
+        while (position < source.length() && isNumberStart(source.charAt(position))) {
+            position++;
+        }
+
+        String number = source.substring(start, position);
+        try {
+            return new BigDecimal(number);
+        } catch (NumberFormatException e) {
+            throw error("Invalid number '" + number + "'");
+        }
+    }
+
+    private String parseIdentifier() {
+        int start = position;
+        while (position < source.length()
+                && (Character.isLetterOrDigit(source.charAt(position)) || source.charAt(position) == '_')) {
+            position++;
+        }
+        return source.substring(start, position);
+    }
+
+    private boolean accept(char expected) {
+        skipWhitespace();
+        if (position < source.length() && source.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!accept(expected)) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isNumberStart(char character) {
+        return Character.isDigit(character) || character == '.';
+    }
+
+    private BadRequestException error(String detail) {
+        return new BadRequestException("Invalid expression", detail + " at position " + position);
+    }
+}
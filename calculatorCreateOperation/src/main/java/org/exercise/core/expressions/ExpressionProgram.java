@@ -0,0 +1,19 @@
+package org.exercise.core.expressions;
+
+import org.exercise.core.enums.OperationType;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+public record ExpressionProgram(String source, Expression root, Map<OperationType, Integer> operationCounts,
+                                Set<String> variables) {
+
+    public OperationType rootType() {
+        return root instanceof Expression.Node node ? node.type() : null;
+    }
+
+    public BigDecimal evaluate(Map<String, BigDecimal> values, Expression.Calculator calculator) {
+        return root.evaluate(values, calculator);
+    }
+}
@@ -1,5 +1,7 @@
 package org.exercise.core.interfaces;
 
+import org.exercise.core.dtos.BatchOperationItem;
+import org.exercise.core.dtos.BatchOperationResult;
 import org.exercise.core.entities.Operation;
 import org.exercise.core.entities.Record;
 import org.exercise.core.enums.OperationType;
@@ -7,11 +9,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public interface OperationService {
 
-    @Transactional
     Record doOperation(String token, String type, BigDecimal value1, BigDecimal value2);
+    List<BatchOperationResult> doBatchOperation(String token, List<BatchOperationItem> items);
+    @Transactional
+    Record doExpression(String token, String expression, Map<String, BigDecimal> variables);
     Operation getOperation(OperationType operationType, BigDecimal value1, BigDecimal value2);
 }
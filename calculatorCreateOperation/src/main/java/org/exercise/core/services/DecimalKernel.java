@@ -0,0 +1,91 @@
+package org.exercise.core.services;
+
+import org.exercise.core.enums.OperationType;
+
+import java.math.BigDecimal;
+
+/*
+ * Exact long arithmetic for ADDITION, SUBTRACTION and MULTIPLICATION when both operands have an unscaled
+ * value that fits in a long and a scale between 0 and MAX_SCALE. Results are formatted the same way as
+ * OperationServiceImpl.formatBigDecimal; null means the caller must fall back to BigDecimal.
+ */
+final class DecimalKernel {
+
+    static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private DecimalKernel() {
+    }
+
+    static String compute(OperationType type, BigDecimal value1, BigDecimal value2) {
+        if (type == null || value1 == null || value2 == null || !fits(value1) || !fits(value2)) {
+            return null;
+        }
+
+        long unscaled1 = value1.unscaledValue().longValue();
+        long unscaled2 = value2.unscaledValue().longValue();
+        int scale1 = value1.scale();
+        int scale2 = value2.scale();
+
+        try {
+            return switch (type) {
+                case ADDITION -> addAligned(unscaled1, scale1, unscaled2, scale2, false);
+                case SUBTRACTION -> addAligned(unscaled1, scale1, unscaled2, scale2, true);
+                case MULTIPLICATION -> scale1 + scale2 > MAX_SCALE ? null
+                        : format(Math.multiplyExact(unscaled1, unscaled2), scale1 + scale2);
+                default -> null;
+            };
+        } catch (ArithmeticException overflow) {
+            return null;
+        }
+    }
+
+    private static String addAligned(long unscaled1, int scale1, long unscaled2, int scale2, boolean subtract) {
+        int scale = Math.max(scale1, scale2);
+        long aligned1 = Math.multiplyExact(unscaled1, POWERS_OF_TEN[scale - scale1]);
+        long aligned2 = Math.multiplyExact(unscaled2, POWERS_OF_TEN[scale - scale2]);
+        long result = subtract ? Math.subtractExact(aligned1, aligned2) : Math.addExact(aligned1, aligned2);
+        return format(result, scale);
+    }
+
+    static String format(long unscaled, int scale) {
+        if (unscaled == Long.MIN_VALUE) {
+            return null;
+        }
+
+        while (scale > 0 && unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+        if (scale == 0) {
+            return Long.toString(unscaled);
+        }
+
+        long magnitude = Math.abs(unscaled);
+        long integerPart = magnitude / POWERS_OF_TEN[scale];
+        long fractionPart = magnitude % POWERS_OF_TEN[scale];
+
+        StringBuilder builder = new StringBuilder(22);
+        if (unscaled < 0) {
+            builder.append('-');
+        }
+        builder.append(integerPart).append(',');
+        String fraction = Long.toString(fractionPart);
+        for (int i = fraction.length(); i < scale; i++) {
+            builder.append('0');
+        }
+        return builder.append(fraction).toString();
+    }
+
+    private static boolean fits(BigDecimal value) {
+        return value.scale() >= 0 && value.scale() <= MAX_SCALE && value.unscaledValue().bitLength() < 64;
+    }
+}
@@ -1,29 +1,41 @@
 package org.exercise.core.services;
 
-import com.nimbusds.jwt.SignedJWT;
 import lombok.RequiredArgsConstructor;
+import org.exercise.core.dtos.BatchOperationItem;
+import org.exercise.core.dtos.BatchOperationResult;
 import org.exercise.core.entities.Operation;
 import org.exercise.core.entities.Record;
 import org.exercise.core.entities.User;
+import org.exercise.core.expressions.ExpressionCompiler;
+import org.exercise.core.expressions.ExpressionProgram;
 import org.exercise.core.enums.OperationType;
+import org.exercise.core.enums.SquareRootMode;
+import org.exercise.core.exceptions.BadGatewayException;
 import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.NotFoundException;
 import org.exercise.core.exceptions.PaymentRequiredException;
 import org.exercise.core.exceptions.UnsupportedOperationException;
 import org.exercise.core.interfaces.OperationService;
-import org.exercise.infrastructure.clients.RandomStringClient;
-import org.exercise.infrastructure.persistence.OperationRepository;
+import org.exercise.core.interfaces.TokenVerifier;
+import org.exercise.infrastructure.clients.RandomStringPool;
+import org.exercise.infrastructure.persistence.OperationCatalog;
 import org.exercise.infrastructure.persistence.RecordRepository;
 import org.exercise.infrastructure.persistence.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,17 +44,38 @@ import java.util.UUID;
 public class OperationServiceImpl implements OperationService {
 
     private static final Logger logger = LoggerFactory.getLogger(OperationServiceImpl.class);
+    static final int MAX_BATCH_SIZE = 100;
+    static final String BATCH_ITEM_ERROR = "The operation could not be completed";
+    static final MathContext SQUARE_ROOT_PRECISION = new MathContext(15);
+    static final int MAX_SQUARE_ROOT_ITERATIONS = 32;
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
 
     private final UserRepository userRepository;
-    private final OperationRepository operationRepository;
+    private final OperationCatalog operationCatalog;
     private final RecordRepository recordRepository;
-    private final RandomStringClient client;
+    private final RandomStringPool randomStringPool;
+    private final ExpressionCompiler expressionCompiler;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenVerifier tokenVerifier;
+    private final boolean atomicDebit = !"read_modify_write".equalsIgnoreCase(System.getenv("BALANCE_DEBIT_MODE"));
+    private final SquareRootMode squareRootMode = SquareRootMode.fromValue(System.getenv("SQUARE_ROOT_MODE"));
 
-    @Transactional
     public Record doOperation(String token, String type, BigDecimal value1, BigDecimal value2) {
         logger.info("Retrieving user ID from access token");
         UUID userId = getUserIdFromToken(token);
 
+        if (OperationType.RANDOM_STRING.name().equalsIgnoreCase(type)) {
+            return doRandomStringOperation(userId, value1, value2);
+        }
+
+        return transactionTemplate.execute(status -> doLocalOperation(userId, type, value1, value2));
+    }
+
+    Record doLocalOperation(UUID userId, String type, BigDecimal value1, BigDecimal value2) {
+        if (atomicDebit) {
+            return doOperationWithAtomicDebit(userId, type, value1, value2);
+        }
+
         User user = findUserById(userId);
         OperationType operationType = getOperationType(type);
 
@@ -59,6 +92,144 @@ public class OperationServiceImpl implements OperationService {
         return saveRecord(operation, updatedUser, result);
     }
 
+    Record doRandomStringOperation(UUID userId, BigDecimal value1, BigDecimal value2) {
+        logger.info("Validating operation values");
+        validateOperationValues(OperationType.RANDOM_STRING, value1, value2);
+
+        Operation operation = getOperation(OperationType.RANDOM_STRING, value1, value2);
+        String result = randomStringPool.fetchRandomString(value1.intValue());
+        try {
+            return transactionTemplate.execute(status -> {
+                Charge charge = chargeUser(userId, operation.getCost());
+                return saveRecord(operation, charge.user(), charge.balance(), result);
+            });
+        } catch (RuntimeException e) {
+            randomStringPool.release(result);
+            throw e;
+        }
+    }
+
+    Record doOperationWithAtomicDebit(UUID userId, String type, BigDecimal value1, BigDecimal value2) {
+        OperationType operationType = getOperationType(type);
+
+        logger.info("Validating operation values");
+        validateOperationValues(operationType, value1, value2);
+
+        logger.info("Validated operation values: value1={}, value2={}, operationType={}", value1, value2, type);
+
+        Operation operation = getOperation(operationType, value1, value2);
+
+        Integer balance = debitBalance(userId, operation.getCost());
+        String result = executeOperation(operation.getType(), value1, value2);
+
+        return saveRecord(operation, userRepository.getReferenceById(userId), balance, result);
+    }
+
+    public List<BatchOperationResult> doBatchOperation(String token, List<BatchOperationItem> items) {
+        logger.info("Retrieving user ID from access token");
+        UUID userId = getUserIdFromToken(token);
+
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " operations");
+        }
+
+        BatchOperationResult[] results = new BatchOperationResult[items.size()];
+        List<PendingRecord> pendingRecords = new ArrayList<>(items.size());
+        int totalCost = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchOperationItem item = items.get(i);
+            String type = item == null ? null : item.type();
+            try {
+                if (item == null) {
+                    throw new BadRequestException("Batch item cannot be null");
+                }
+                OperationType operationType = getOperationType(type);
+                validateOperationValues(operationType, item.value1(), item.value2());
+
+                Operation operation = getOperation(operationType, item.value1(), item.value2());
+                String result = executeOperation(operation.getType(), item.value1(), item.value2());
+
+                pendingRecords.add(new PendingRecord(i, type, operation, result));
+                totalCost += operation.getCost();
+            } catch (BadRequestException | NotFoundException | UnsupportedOperationException |
+                     BadGatewayException e) {
+                logger.warn("Batch item {} failed: {}", i, e.getMessage());
+                results[i] = BatchOperationResult.failure(i, type, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.error("Batch item {} failed unexpectedly", i, e);
+                results[i] = BatchOperationResult.failure(i, type, BATCH_ITEM_ERROR);
+            }
+        }
+
+        if (!pendingRecords.isEmpty()) {
+            int batchCost = totalCost;
+            transactionTemplate.executeWithoutResult(status ->
+                    saveBatchRecords(userId, pendingRecords, batchCost, results));
+        }
+
+        return Arrays.asList(results);
+    }
+
+    private void saveBatchRecords(UUID userId, List<PendingRecord> pendingRecords, int totalCost,
+                                  BatchOperationResult[] results) {
+        Charge charge = chargeUser(userId, totalCost);
+        User user = charge.user();
+        int runningBalance = charge.balance() + totalCost;
+
+        List<Record> records = new ArrayList<>(pendingRecords.size());
+        for (PendingRecord pending : pendingRecords) {
+            runningBalance -= pending.operation().getCost();
+            records.add(new Record(pending.operation(), user, pending.operation().getCost(), runningBalance,
+                    pending.result()));
+        }
+
+        logger.info("Persisting {} batch records for user: {}", records.size(), userId);
+        List<Record> savedRecords = recordRepository.saveAll(records);
+
+        Map<OperationType, int[]> stats = new EnumMap<>(OperationType.class);
+        for (PendingRecord pending : pendingRecords) {
+            int[] totals = stats.computeIfAbsent(pending.operation().getType(), type -> new int[2]);
+            totals[0]++;
+            totals[1] += pending.operation().getCost();
+        }
+        stats.forEach((type, totals) -> recordRepository.addToStats(userId, type.name(), totals[0], totals[1]));
+
+        for (int i = 0; i < pendingRecords.size(); i++) {
+            PendingRecord pending = pendingRecords.get(i);
+            results[pending.index()] = BatchOperationResult.success(pending.index(), pending.type(), savedRecords.get(i));
+        }
+    }
+
+    @Transactional
+    public Record doExpression(String token, String expression, Map<String, BigDecimal> variables) {
+        logger.info("Retrieving user ID from access token");
+        UUID userId = getUserIdFromToken(token);
+
+        ExpressionProgram program = expressionCompiler.compile(expression);
+        if (program.rootType() == null) {
+            throw new BadRequestException("Expression must contain at least one operation");
+        }
+
+        int totalCost = 0;
+        for (Map.Entry<OperationType, Integer> entry : program.operationCounts().entrySet()) {
+            totalCost += getOperation(entry.getKey(), null, null).getCost() * entry.getValue();
+        }
+        Operation rootOperation = getOperation(program.rootType(), null, null);
+
+        Charge charge = chargeUser(userId, totalCost);
+
+        logger.info("Evaluating expression with {} operations for user: {}", program.operationCounts(), userId);
+        String result = formatBigDecimal(program.evaluate(variables, this::calculate));
+
+        Record recordObject = new Record(rootOperation, charge.user(), totalCost, charge.balance(), result);
+        logger.info("Persisting expression record for user: {}", userId);
+        Record savedRecord = recordRepository.save(recordObject);
+        recordRepository.addToStats(userId, rootOperation.getType().name(), 1, totalCost);
+
+        return savedRecord;
+    }
+
     static OperationType getOperationType(String type) {
         try {
             return OperationType.valueOf(type.toUpperCase());
@@ -70,8 +241,7 @@ public class OperationServiceImpl implements OperationService {
 
     UUID getUserIdFromToken(String accessToken) {
         try {
-            SignedJWT signedJWT = SignedJWT.parse(accessToken);
-            return Optional.ofNullable(signedJWT.getJWTClaimsSet().getStringClaim("sub"))
+            return Optional.ofNullable(tokenVerifier.verify(accessToken).subject())
                     .map(sub -> {
                         try {
                             return UUID.fromString(sub);
@@ -96,7 +266,7 @@ public class OperationServiceImpl implements OperationService {
     }
 
     public Operation getOperation(OperationType operationType, BigDecimal value1, BigDecimal value2) {
-        return operationRepository.findByType(operationType)
+        return operationCatalog.findByType(operationType)
                 .orElseThrow(() -> {
                     logger.warn("Operation type not found: {}", operationType);
                     return new NotFoundException("Operation type not found");
@@ -116,18 +286,56 @@ public class OperationServiceImpl implements OperationService {
         return userRepository.save(user);
     }
 
+    Charge chargeUser(UUID userId, int cost) {
+        if (atomicDebit) {
+            Integer balance = debitBalance(userId, cost);
+            return new Charge(userRepository.getReferenceById(userId), balance);
+        }
+
+        User user = checkBalance(findUserById(userId), cost);
+        return new Charge(user, user.getBalance().getAmount());
+    }
+
+    Integer debitBalance(UUID userId, Integer cost) {
+        return userRepository.debitBalance(userId, cost)
+                .map(result -> {
+                    logger.info("User balance updated: {} for user: {}", result, userId);
+                    return result;
+                })
+                .orElseThrow(() -> {
+                    if (!userRepository.existsById(userId)) {
+                        logger.warn("User not found with ID: {}", userId);
+                        return new NotFoundException("User not found. Try logging in again");
+                    }
+                    return new PaymentRequiredException("Insufficient User Balance for this operation");
+                });
+    }
+
     String executeOperation(OperationType type, BigDecimal value1, BigDecimal value2) {
         if (type == null) {
             throw new UnsupportedOperationException("Unsupported operation type: null");
         }
 
+        if (type == OperationType.RANDOM_STRING) {
+            return randomStringPool.fetchRandomString(value1.intValue());
+        }
+
+        String fastResult = DecimalKernel.compute(type, value1, value2);
+        if (fastResult != null) {
+            return fastResult;
+        }
+
+        return formatBigDecimal(calculate(type, value1, value2));
+    }
+
+    BigDecimal calculate(OperationType type, BigDecimal value1, BigDecimal value2) {
         return switch (type) {
-            case ADDITION -> formatBigDecimal(value1.add(value2));
-            case SUBTRACTION -> formatBigDecimal(value1.subtract(value2));
-            case MULTIPLICATION -> formatBigDecimal(value1.multiply(value2));
+            case ADDITION -> value1.add(value2);
+            case SUBTRACTION -> value1.subtract(value2);
+            case MULTIPLICATION -> value1.multiply(value2);
             case DIVISION -> division(value1, value2);
             case SQUARE_ROOT -> squareRoot(value1);
-            case RANDOM_STRING -> client.fetchRandomString(value1.intValue());
+            case RANDOM_STRING -> throw new UnsupportedOperationException("Random string is not a numeric operation");
         };
     }
 
@@ -151,46 +359,72 @@ public class OperationServiceImpl implements OperationService {
                 || type == OperationType.MULTIPLICATION || type == OperationType.DIVISION;
     }
 
-    private String division(BigDecimal value1, BigDecimal value2) {
+    private BigDecimal division(BigDecimal value1, BigDecimal value2) {
         if (value2.compareTo(BigDecimal.ZERO) == 0) {
             throw new UnsupportedOperationException("Division by 0 is not possible");
         }
-        BigDecimal result = value1.divide(value2, 15, RoundingMode.HALF_UP);
-        return formatBigDecimal(result);
+        return value1.divide(value2, 15, RoundingMode.HALF_UP);
     }
 
-    private String squareRoot(BigDecimal value) {
+    private BigDecimal squareRoot(BigDecimal value) {
         if (value.compareTo(BigDecimal.ZERO) < 0) {
             throw new UnsupportedOperationException("Negative numbers don't have square roots");
         }
-        BigDecimal result = sqrt(value, new MathContext(15));
-        return formatBigDecimal(result);
+        return sqrt(value, SQUARE_ROOT_PRECISION, squareRootMode);
     }
 
-    private BigDecimal sqrt(BigDecimal value, MathContext mc) {
-        BigDecimal x0 = BigDecimal.ZERO;
-        BigDecimal x1 = BigDecimal.valueOf(Math.sqrt(value.doubleValue()));
-        while (!x0.equals(x1)) {
+    static BigDecimal sqrt(BigDecimal value, MathContext mc, SquareRootMode mode) {
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        double guess = Math.sqrt(value.doubleValue());
+        if (mode == SquareRootMode.CORRECTLY_ROUNDED || guess == 0 || Double.isInfinite(guess)) {
+            return value.sqrt(mc);
+        }
+
+        BigDecimal x0 = BigDecimal.valueOf(guess);
+        for (int i = 0; i < MAX_SQUARE_ROOT_ITERATIONS; i++) {
+            BigDecimal x1 = value.divide(x0, mc).add(x0).divide(TWO, mc);
+            if (x1.compareTo(x0) == 0) {
+                return x1;
+            }
             x0 = x1;
-            x1 = value.divide(x0, mc);
-            x1 = x1.add(x0);
-            x1 = x1.divide(BigDecimal.valueOf(2), mc);
         }
-        return x1;
+
+        logger.warn("Square root of {} did not converge after {} iterations", value, MAX_SQUARE_ROOT_ITERATIONS);
+        return x0;
     }
 
     static String formatBigDecimal(BigDecimal result) {
-        if (result.scale() <= 0 || result.stripTrailingZeros().scale() <= 0) {
+        if (result.scale() <= 0) {
+            return result.setScale(0, RoundingMode.HALF_UP).toPlainString();
+        }
+
+        BigDecimal stripped = result.stripTrailingZeros();
+        if (stripped.scale() <= 0) {
             return result.setScale(0, RoundingMode.HALF_UP).toPlainString();
         } else {
-            return result.stripTrailingZeros().toPlainString().replace('.', ',');
+            return stripped.toPlainString().replace('.', ',');
         }
     }
 
     Record saveRecord(Operation operation, User user, String result) {
-        Record recordObject = new Record(operation, user, operation.getCost(), user.getBalance().getAmount(), result);
+        return saveRecord(operation, user, user.getBalance().getAmount(), result);
+    }
+
+    Record saveRecord(Operation operation, User user, Integer userBalance, String result) {
+        Record recordObject = new Record(operation, user, operation.getCost(), userBalance, result);
         logger.info("Persisting record for operation: {} and user: {}", operation.getType(), user.getId());
+        Record savedRecord = recordRepository.save(recordObject);
+        recordRepository.addToStats(user.getId(), operation.getType().name(), 1, operation.getCost());
+
+        return savedRecord;
+    }
+
+    record Charge(User user, Integer balance) {
+    }
 
-        return recordRepository.save(recordObject);
+    private record PendingRecord(int index, String type, Operation operation, String result) {
     }
 }
\ No newline at end of file
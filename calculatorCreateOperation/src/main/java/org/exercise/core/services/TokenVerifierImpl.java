@@ -0,0 +1,146 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.annotation.PostConstruct;
+import org.exercise.core.dtos.TokenCacheStats;
+import org.exercise.core.dtos.TokenPrincipal;
+import org.exercise.core.exceptions.UnauthorizedException;
+import org.exercise.core.interfaces.TokenVerifier;
+import org.exercise.infrastructure.clients.JwksProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class TokenVerifierImpl implements TokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenVerifierImpl.class);
+    static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+    static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final JwksProvider jwksProvider;
+    private final String issuer;
+    private final boolean enabled;
+    private final Clock clock;
+    private final VerifiedTokenCache cache;
+
+    @Autowired
+    public TokenVerifierImpl(JwksProvider jwksProvider,
+                             @Value("${COGNITO_ISSUER:}") String issuer,
+                             @Value("${TOKEN_VERIFICATION:jwks}") String mode,
+                             @Value("${TOKEN_CACHE_SIZE:" + DEFAULT_CACHE_SIZE + "}") int cacheSize) {
+        this(jwksProvider, issuer, !"none".equalsIgnoreCase(mode), Clock.systemUTC(), cacheSize);
+    }
+
+    TokenVerifierImpl(JwksProvider jwksProvider, String issuer, boolean enabled, Clock clock) {
+        this(jwksProvider, issuer, enabled, clock, DEFAULT_CACHE_SIZE);
+    }
+
+    TokenVerifierImpl(JwksProvider jwksProvider, String issuer, boolean enabled, Clock clock, int cacheSize) {
+        if (enabled && (issuer == null || issuer.isBlank())) {
+            throw new IllegalStateException("COGNITO_ISSUER must be set when TOKEN_VERIFICATION is jwks");
+        }
+        this.jwksProvider = jwksProvider;
+        this.issuer = issuer;
+        this.enabled = enabled;
+        this.clock = clock;
+        this.cache = new VerifiedTokenCache(Math.max(0, cacheSize), CLOCK_SKEW);
+    }
+
+    @PostConstruct
+    void preload() {
+        if (enabled) {
+            jwksProvider.preload();
+        } else {
+            logger.warn("Token signature verification is disabled");
+        }
+    }
+
+    @Override
+    public TokenPrincipal verify(String token) throws ParseException {
+        if (token == null) {
+            return toPrincipal(verifyClaims(null));
+        }
+
+        Instant now = clock.instant();
+        TokenPrincipal cached = cache.get(token, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        TokenPrincipal principal = toPrincipal(verifyClaims(token));
+        cache.put(token, principal, now);
+        return principal;
+    }
+
+    @Override
+    public TokenCacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    JWTClaimsSet verifyClaims(String token) throws ParseException {
+        SignedJWT signedJWT = SignedJWT.parse(token);
+        if (!enabled) {
+            return signedJWT.getJWTClaimsSet();
+        }
+
+        JWSHeader header = signedJWT.getHeader();
+        if (!JWSAlgorithm.RS256.equals(header.getAlgorithm())) {
+            throw new UnauthorizedException("Unsupported token algorithm: " + header.getAlgorithm());
+        }
+
+        JWSVerifier verifier = jwksProvider.verifierFor(header.getKeyID());
+        if (verifier == null) {
+            throw new UnauthorizedException("Token was signed with an unknown key");
+        }
+
+        try {
+            if (!signedJWT.verify(verifier)) {
+                throw new UnauthorizedException("Invalid token signature");
+            }
+        } catch (JOSEException e) {
+            throw new UnauthorizedException("Could not verify token signature: " + e.getMessage());
+        }
+
+        JWTClaimsSet claims = signedJWT.getJWTClaimsSet();
+        Date expiration = claims.getExpirationTime();
+        if (expiration == null || expiration.toInstant().plus(CLOCK_SKEW).isBefore(clock.instant())) {
+            throw new UnauthorizedException("Token has expired");
+        }
+        if (!issuer.equals(claims.getIssuer())) {
+            throw new UnauthorizedException("Token was not issued by the expected user pool");
+        }
+        if (!"access".equals(claims.getStringClaim("token_use"))) {
+            throw new UnauthorizedException("Token is not an access token");
+        }
+
+        return claims;
+    }
+
+    private static TokenPrincipal toPrincipal(JWTClaimsSet claims) throws ParseException {
+        Date expiration = claims.getExpirationTime();
+        Object scope = claims.getClaim("scope");
+        Set<String> scopes = !(scope instanceof String value) || value.isBlank()
+                ? Set.of()
+                : Arrays.stream(value.trim().split("\\s+")).collect(Collectors.toUnmodifiableSet());
+
+        return new TokenPrincipal(claims.getStringClaim("sub"),
+                expiration == null ? null : expiration.toInstant(), scopes);
+    }
+}
@@ -0,0 +1,91 @@
+package org.exercise.core.services;
+
+import org.exercise.core.dtos.TokenCacheStats;
+import org.exercise.core.dtos.TokenPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class VerifiedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+    static final int STATS_LOG_INTERVAL = 1000;
+
+    private final int maxSize;
+    private final Duration clockSkew;
+    private final Map<String, TokenPrincipal> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    VerifiedTokenCache(int maxSize, Duration clockSkew) {
+        this.maxSize = maxSize;
+        this.clockSkew = clockSkew;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TokenPrincipal> eldest) {
+                if (size() > VerifiedTokenCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    synchronized TokenPrincipal get(String token, Instant now) {
+        if (maxSize == 0) {
+            return null;
+        }
+
+        String key = digest(token);
+        TokenPrincipal principal = entries.get(key);
+        if (principal != null && isExpired(principal, now)) {
+            entries.remove(key);
+            principal = null;
+        }
+
+        if (principal != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        if ((hits + misses) % STATS_LOG_INTERVAL == 0) {
+            TokenCacheStats stats = stats();
+            logger.info("Verified token cache: {} hits, {} misses, hit rate {}, {} evictions, {} entries",
+                    stats.hits(), stats.misses(), String.format("%.3f", stats.hitRate()), stats.evictions(), stats.size());
+        }
+        return principal;
+    }
+
+    synchronized void put(String token, TokenPrincipal principal, Instant now) {
+        if (maxSize > 0 && principal.expiresAt() != null && !isExpired(principal, now)) {
+            entries.put(digest(token), principal);
+        }
+    }
+
+    private boolean isExpired(TokenPrincipal principal, Instant now) {
+        return principal.expiresAt().plus(clockSkew).isBefore(now);
+    }
+
+    synchronized TokenCacheStats stats() {
+        return new TokenCacheStats(hits, misses, evictions, entries.size());
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
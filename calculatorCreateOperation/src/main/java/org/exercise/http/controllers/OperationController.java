@@ -1,6 +1,9 @@
 package org.exercise.http.controllers;
 
 import lombok.RequiredArgsConstructor;
+import org.exercise.core.dtos.BatchOperationItem;
+import org.exercise.core.dtos.BatchOperationResult;
+import org.exercise.core.dtos.ExpressionRequest;
 import org.exercise.core.dtos.Values;
 import org.exercise.core.entities.Record;
 import org.exercise.core.interfaces.OperationService;
@@ -8,6 +11,8 @@ import org.exercise.core.services.OperationServiceImpl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
@@ -25,4 +30,17 @@ public class OperationController {
         Record responseRecord = operationService.doOperation(accessToken, type, values.value1(), values.value2());
         return ResponseEntity.ok(responseRecord);
     }
+
+    @PostMapping("/operations/batch")
+    public ResponseEntity<List<BatchOperationResult>> doBatchOperation(@RequestHeader String accessToken,
+                                                                       @RequestBody List<BatchOperationItem> items) {
+        List<BatchOperationResult> results = operationService.doBatchOperation(accessToken, items);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping("/operations/expression")
+    public ResponseEntity<Record> doExpression(@RequestHeader String accessToken, @RequestBody ExpressionRequest request) {
+        Record responseRecord = operationService.doExpression(accessToken, request.expression(), request.variables());
+        return ResponseEntity.ok(responseRecord);
+    }
 }
@@ -37,6 +37,12 @@ public class GlobalExceptionHandler {
         return createErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getLocalizedMessage());
     }
 
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ResponseTemplate> handleUnauthorizedException(UnauthorizedException ex) {
+        logError(ex, ex.getLocalizedMessage());
+        return createErrorResponse(ex, HttpStatus.UNAUTHORIZED, ex.getLocalizedMessage());
+    }
+
     @ExceptionHandler(PaymentRequiredException.class)
     public ResponseEntity<ResponseTemplate> handlePaymentRequiredException(PaymentRequiredException ex) {
         logError(ex, ex.getLocalizedMessage());
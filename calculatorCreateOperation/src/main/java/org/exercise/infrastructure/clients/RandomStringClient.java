@@ -1,6 +1,5 @@
 package org.exercise.infrastructure.clients;
 
-import lombok.RequiredArgsConstructor;
 import org.exercise.core.exceptions.BadGatewayException;
 import org.exercise.core.exceptions.BadRequestException;
 import org.slf4j.Logger;
@@ -12,37 +11,84 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class RandomStringClient {
 
     private static final Logger logger = LoggerFactory.getLogger(RandomStringClient.class);
+    private static final long DEFAULT_CONNECT_TIMEOUT_MS = 2000;
+    private static final long DEFAULT_REQUEST_TIMEOUT_MS = 5000;
+
     private final String baseUrl = System.getenv("RSCLIENT_BASE_URL");
     private final String len = System.getenv("RSCLIENT_LEN");
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public RandomStringClient() {
+        this(buildHttpClient(timeoutFromEnv("RSCLIENT_CONNECT_TIMEOUT_MS", DEFAULT_CONNECT_TIMEOUT_MS)),
+                timeoutFromEnv("RSCLIENT_REQUEST_TIMEOUT_MS", DEFAULT_REQUEST_TIMEOUT_MS));
+    }
+
+    RandomStringClient(HttpClient httpClient, Duration requestTimeout) {
+        this.httpClient = httpClient;
+        this.requestTimeout = requestTimeout;
+    }
+
+    static HttpClient buildHttpClient(Duration connectTimeout) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    static Duration timeoutFromEnv(String name, long defaultMillis) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return Duration.ofMillis(defaultMillis);
+        }
+
+        try {
+            return Duration.ofMillis(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} value: {}, using default", name, value);
+            return Duration.ofMillis(defaultMillis);
+        }
+    }
 
     public String fetchRandomString(double num) {
+        return send(num).body();
+    }
+
+    public List<String> fetchRandomStrings(int num) {
+        HttpResponse<String> response = send(num);
+        if (response.statusCode() != 200) {
+            logger.error("Random string api answered with status {}: {}", response.statusCode(), response.body());
+            throw new BadGatewayException("An error occurred when trying to access the random string api");
+        }
+        return response.body().lines().filter(line -> !line.isBlank()).toList();
+    }
+
+    private HttpResponse<String> send(double num) {
         String url = String.format("%s?num=%d&len=%s&digits=off&upperalpha=on&loweralpha=on&unique=on&format=plain&rnd=new",
                 baseUrl, (int) num, len);
         if (num < 0 || num > 10000) {
             throw new BadRequestException("Numeric value for Random String request cannot be negative nor greater than 10000");
         }
-        HttpResponse<String> response;
-        try (HttpClient client = HttpClient.newHttpClient()) {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .GET()
-                    .build();
-            try {
-                response = client.send(request, HttpResponse.BodyHandlers.ofString());
-                return response.body();
-            } catch (IOException e) {
-                throw new BadGatewayException("An error occurred when trying to access the random string api");
-            } catch (InterruptedException ie) {
-                logger.error("InterruptedException: ", ie);
-                Thread.currentThread().interrupt();
-                throw new BadGatewayException("An error occurred when trying to access the random string api");
-            }
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(requestTimeout)
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new BadGatewayException("An error occurred when trying to access the random string api");
+        } catch (InterruptedException ie) {
+            logger.error("InterruptedException: ", ie);
+            Thread.currentThread().interrupt();
+            throw new BadGatewayException("An error occurred when trying to access the random string api");
         }
     }
 }
@@ -0,0 +1,161 @@
+package org.exercise.infrastructure.clients;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RandomStringPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(RandomStringPool.class);
+    private static final int DEFAULT_CAPACITY = 2000;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    static final int MAX_BATCH_SIZE = 10000;
+
+    private final RandomStringClient client;
+    private final int capacity;
+    private final int batchSize;
+    private final Executor refillExecutor;
+    private final BlockingQueue<String> pool;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong refills = new AtomicLong();
+    private final AtomicLong refillFailures = new AtomicLong();
+
+    @Autowired
+    public RandomStringPool(RandomStringClient client) {
+        this(client, intFromEnv("RSCLIENT_POOL_SIZE", DEFAULT_CAPACITY),
+                intFromEnv("RSCLIENT_POOL_BATCH", DEFAULT_BATCH_SIZE),
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "random-string-pool-refill");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    RandomStringPool(RandomStringClient client, int capacity, int batchSize, Executor refillExecutor) {
+        this.client = client;
+        this.capacity = Math.max(0, capacity);
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        this.refillExecutor = refillExecutor;
+        this.pool = new ArrayBlockingQueue<>(Math.max(1, this.capacity));
+    }
+
+    public String fetchRandomString(int num) {
+        if (capacity == 0 || num <= 0 || num > capacity) {
+            misses.incrementAndGet();
+            return client.fetchRandomString(num);
+        }
+
+        List<String> strings = new ArrayList<>(num);
+        synchronized (pool) {
+            if (pool.size() >= num) {
+                pool.drainTo(strings, num);
+            }
+        }
+        triggerRefill();
+
+        if (strings.isEmpty()) {
+            misses.incrementAndGet();
+            logger.info("Random string pool drained, fetching {} strings synchronously", num);
+            return client.fetchRandomString(num);
+        }
+
+        hits.incrementAndGet();
+        StringBuilder builder = new StringBuilder(num * (strings.get(0).length() + 1));
+        for (String string : strings) {
+            builder.append(string).append('\n');
+        }
+        return builder.toString();
+    }
+
+    public void release(String randomStrings) {
+        if (capacity == 0 || randomStrings == null || randomStrings.isEmpty()) {
+            return;
+        }
+
+        int released = 0;
+        for (String string : randomStrings.split("\n")) {
+            if (string.isEmpty()) {
+                continue;
+            }
+            if (!pool.offer(string)) {
+                break;
+            }
+            released++;
+        }
+        logger.info("Released {} unused random strings back to the pool", released);
+    }
+
+    public Stats stats() {
+        return new Stats(hits.get(), misses.get(), refills.get(), refillFailures.get(), pool.size());
+    }
+
+    void triggerRefill() {
+        if (capacity == 0 || pool.size() > capacity / 2 || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            refillExecutor.execute(this::refill);
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+            logger.warn("Random string pool refill rejected: {}", e.getMessage());
+        }
+    }
+
+    private void refill() {
+        try {
+            int missing = Math.min(batchSize, pool.remainingCapacity());
+            if (missing == 0) {
+                return;
+            }
+
+            List<String> strings = client.fetchRandomStrings(missing);
+            int added = 0;
+            for (String string : strings) {
+                if (!pool.offer(string)) {
+                    break;
+                }
+                added++;
+            }
+
+            refills.incrementAndGet();
+            logger.info("Random string pool refilled with {} strings: {}", added, stats());
+        } catch (RuntimeException e) {
+            refillFailures.incrementAndGet();
+            logger.warn("Random string pool refill failed: {}", e.getMessage());
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    static int intFromEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} value: {}, using default", name, value);
+            return defaultValue;
+        }
+    }
+
+    public record Stats(long hits, long misses, long refills, long refillFailures, int available) {
+    }
+}
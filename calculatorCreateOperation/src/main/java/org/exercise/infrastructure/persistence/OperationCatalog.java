@@ -0,0 +1,95 @@
+package org.exercise.infrastructure.persistence;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.enums.OperationType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class OperationCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(OperationCatalog.class);
+    private static final long DEFAULT_TTL_SECONDS = 300;
+
+    private final OperationRepository operationRepository;
+    private final long ttlNanos = TimeUnit.SECONDS.toNanos(parseTtl(System.getenv("OPERATION_CATALOG_TTL_SECONDS")));
+    private volatile Snapshot snapshot;
+    private long version;
+
+    @PostConstruct
+    void preload() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Could not preload operation catalog, it will be loaded on first use: {}", e.getMessage());
+        }
+    }
+
+    public Optional<Operation> findByType(OperationType type) {
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired(ttlNanos)) {
+            current = refresh();
+        }
+
+        Operation operation = current.operations().get(type);
+        if (operation != null) {
+            return Optional.of(operation);
+        }
+
+        logger.info("Operation type {} not present in catalog version {}, querying database", type, current.version());
+        return operationRepository.findByType(type);
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    synchronized Snapshot refresh() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired(ttlNanos)) {
+            return current;
+        }
+
+        Map<OperationType, Operation> operations = new EnumMap<>(OperationType.class);
+        operationRepository.findAll().forEach(operation -> operations.put(operation.getType(), operation));
+
+        snapshot = new Snapshot(Collections.unmodifiableMap(operations), ++version, System.nanoTime());
+        logger.info("Operation catalog loaded: {} operations, version {}", operations.size(), version);
+
+        return snapshot;
+    }
+
+    static long parseTtl(String ttl) {
+        if (ttl == null || ttl.isBlank()) {
+            return DEFAULT_TTL_SECONDS;
+        }
+
+        try {
+            return Math.max(0, Long.parseLong(ttl.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid OPERATION_CATALOG_TTL_SECONDS value: {}, using default", ttl);
+            return DEFAULT_TTL_SECONDS;
+        }
+    }
+
+    record Snapshot(Map<OperationType, Operation> operations, long version, long loadedAt) {
+
+        boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt >= ttlNanos;
+        }
+    }
+}
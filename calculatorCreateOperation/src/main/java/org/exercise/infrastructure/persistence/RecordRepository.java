@@ -2,9 +2,20 @@ package org.exercise.infrastructure.persistence;
 
 import org.exercise.core.entities.Record;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.UUID;
 
 public interface RecordRepository extends JpaRepository<Record, UUID> {
 
+    @Modifying
+    @Query(value = "INSERT INTO tb_record_stats (user_id, operation_type, record_count, total_spent) " +
+            "VALUES (:userId, :operationType, :count, :spent) " +
+            "ON CONFLICT (user_id, operation_type) DO UPDATE SET " +
+            "record_count = tb_record_stats.record_count + EXCLUDED.record_count, " +
+            "total_spent = tb_record_stats.total_spent + EXCLUDED.total_spent", nativeQuery = true)
+    int addToStats(@Param("userId") UUID userId, @Param("operationType") String operationType,
+                   @Param("count") int count, @Param("spent") int spent);
 }
@@ -2,10 +2,18 @@ package org.exercise.infrastructure.persistence;
 
 import org.exercise.core.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+
+    @Query(value = "UPDATE tb_balances b SET amount = b.amount - :cost FROM tb_users u " +
+            "WHERE u.id = :userId AND b.id = u.balance_id AND b.amount >= :cost " +
+            "RETURNING b.amount", nativeQuery = true)
+    Optional<Integer> debitBalance(@Param("userId") UUID userId, @Param("cost") int cost);
 }
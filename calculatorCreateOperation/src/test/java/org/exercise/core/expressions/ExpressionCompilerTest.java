@@ -0,0 +1,35 @@
+package org.exercise.core.expressions;
+
+import org.exercise.core.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpressionCompilerTest {
+
+    private final ExpressionCompiler compiler = new ExpressionCompiler();
+
+    @Test
+    void compile_sameText_returnsCachedProgram() {
+        ExpressionProgram first = compiler.compile("(a+b)*sqrt(c)/d");
+        ExpressionProgram second = compiler.compile("(a+b)*sqrt(c)/d");
+
+        assertSame(first, second);
+        assertEquals(1, compiler.cachedPrograms());
+    }
+
+    @Test
+    void compile_isBoundedByCacheSize() {
+        for (int i = 0; i < ExpressionCompiler.CACHE_SIZE + 10; i++) {
+            compiler.compile("x + " + i);
+        }
+
+        assertEquals(ExpressionCompiler.CACHE_SIZE, compiler.cachedPrograms());
+    }
+
+    @Test
+    void compile_invalidExpression_isNotCached() {
+        assertThrows(BadRequestException.class, () -> compiler.compile("1 +"));
+        assertEquals(0, compiler.cachedPrograms());
+    }
+}
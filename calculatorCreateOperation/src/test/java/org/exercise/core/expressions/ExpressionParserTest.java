@@ -0,0 +1,109 @@
+package org.exercise.core.expressions;
+
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpressionParserTest {
+
+    private final Expression.Calculator calculator = (type, value1, value2) -> switch (type) {
+        case ADDITION -> value1.add(value2);
+        case SUBTRACTION -> value1.subtract(value2);
+        case MULTIPLICATION -> value1.multiply(value2);
+        case DIVISION -> value1.divide(value2, MathContext.DECIMAL64);
+        case SQUARE_ROOT -> value1.sqrt(MathContext.DECIMAL64);
+        case RANDOM_STRING -> throw new IllegalStateException();
+    };
+
+    @Test
+    void parse_respectsPrecedenceAndParentheses() {
+        assertEquals(0, new BigDecimal("14").compareTo(evaluate("2 + 3 * 4")));
+        assertEquals(0, new BigDecimal("20").compareTo(evaluate("(2 + 3) * 4")));
+        assertEquals(0, new BigDecimal("1").compareTo(evaluate("10 - 4 - 5")));
+        assertEquals(0, new BigDecimal("2").compareTo(evaluate("16 / 4 / 2")));
+    }
+
+    @Test
+    void parse_countsOperationsPerNode() {
+        ExpressionProgram program = ExpressionParser.parse("(a+b)*sqrt(c)/d");
+
+        assertEquals(Map.of(
+                OperationType.ADDITION, 1,
+                OperationType.MULTIPLICATION, 1,
+                OperationType.SQUARE_ROOT, 1,
+                OperationType.DIVISION, 1), program.operationCounts());
+        assertEquals(Set.of("a", "b", "c", "d"), program.variables());
+        assertEquals(OperationType.DIVISION, program.rootType());
+    }
+
+    @Test
+    void parse_evaluatesWithVariables() {
+        ExpressionProgram program = ExpressionParser.parse("(a+b)*sqrt(c)/d");
+
+        BigDecimal result = program.evaluate(Map.of(
+                "a", BigDecimal.ONE,
+                "b", BigDecimal.valueOf(3),
+                "c", BigDecimal.valueOf(9),
+                "d", BigDecimal.valueOf(2)), calculator);
+
+        assertEquals(0, BigDecimal.valueOf(6).compareTo(result));
+    }
+
+    @Test
+    void parse_negativeLiteralsAndUnaryMinus() {
+        assertEquals(0, new BigDecimal("-1.5").compareTo(evaluate("-1.5")));
+        assertEquals(OperationType.SUBTRACTION, ExpressionParser.parse("-(2 * 3)").rootType());
+        assertEquals(0, new BigDecimal("-6").compareTo(evaluate("-(2 * 3)")));
+    }
+
+    @Test
+    void parse_literalOnly_hasNoRootOperation() {
+        ExpressionProgram program = ExpressionParser.parse("42");
+
+        assertNull(program.rootType());
+        assertTrue(program.operationCounts().isEmpty());
+    }
+
+    @Test
+    void evaluate_missingVariable_throwsBadRequest() {
+        ExpressionProgram program = ExpressionParser.parse("a + 1");
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> program.evaluate(Map.of(), calculator));
+        assertEquals("Missing value for expression variable: a", exception.getMessage());
+    }
+
+    @Test
+    void parse_invalidExpressions_throwBadRequest() {
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse(null));
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse(" "));
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse("1 +"));
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse("(1 + 2"));
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse("1 + 2)"));
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse("sqrt 4"));
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse("1.2.3"));
+        assertThrows(BadRequestException.class, () -> ExpressionParser.parse("2 ^ 3"));
+        assertThrows(BadRequestException.class,
+                () -> ExpressionParser.parse("1".repeat(ExpressionParser.MAX_LENGTH + 1)));
+        assertThrows(BadRequestException.class,
+                () -> ExpressionParser.parse("(".repeat(ExpressionParser.MAX_DEPTH + 1) + "1"
+                        + ")".repeat(ExpressionParser.MAX_DEPTH + 1)));
+    }
+
+    @Test
+    void parse_errorMessageContainsPosition() {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> ExpressionParser.parse("1 + #"));
+        assertEquals("Invalid expression: Unexpected character '#' at position 4", exception.getMessage());
+    }
+
+    private BigDecimal evaluate(String expression) {
+        return ExpressionParser.parse(expression).evaluate(Map.of(), calculator);
+    }
+}
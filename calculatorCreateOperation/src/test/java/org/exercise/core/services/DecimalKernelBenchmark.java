@@ -0,0 +1,54 @@
+package org.exercise.core.services;
+
+import org.exercise.core.enums.OperationType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecimalKernelBenchmark {
+
+    @Param({"ADDITION", "SUBTRACTION", "MULTIPLICATION"})
+    public OperationType type;
+
+    @Param({"10|20", "1234.56|0.44", "-98765.4321|12.5"})
+    public String operands;
+
+    private BigDecimal value1;
+    private BigDecimal value2;
+
+    @Setup
+    public void setUp() {
+        String[] values = operands.split("\\|");
+        value1 = new BigDecimal(values[0]);
+        value2 = new BigDecimal(values[1]);
+    }
+
+    @Benchmark
+    public String bigDecimal() {
+        BigDecimal result = switch (type) {
+            case ADDITION -> value1.add(value2);
+            case SUBTRACTION -> value1.subtract(value2);
+            default -> value1.multiply(value2);
+        };
+        return OperationServiceImpl.formatBigDecimal(result);
+    }
+
+    @Benchmark
+    public String kernel() {
+        return DecimalKernel.compute(type, value1, value2);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DecimalKernelBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,79 @@
+package org.exercise.core.services;
+
+import org.exercise.core.enums.OperationType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecimalKernelTest {
+
+    private static final OperationType[] FAST_TYPES = {
+            OperationType.ADDITION, OperationType.SUBTRACTION, OperationType.MULTIPLICATION
+    };
+
+    @Test
+    void compute_matchesBigDecimalFormatting() {
+        assertEquals("11", DecimalKernel.compute(OperationType.ADDITION, BigDecimal.TEN, BigDecimal.ONE));
+        assertEquals("0,3", DecimalKernel.compute(OperationType.ADDITION, new BigDecimal("0.1"), new BigDecimal("0.2")));
+        assertEquals("-0,05", DecimalKernel.compute(OperationType.SUBTRACTION, new BigDecimal("0.05"), new BigDecimal("0.10")));
+        assertEquals("0", DecimalKernel.compute(OperationType.SUBTRACTION, new BigDecimal("1.50"), new BigDecimal("1.5")));
+        assertEquals("2", DecimalKernel.compute(OperationType.MULTIPLICATION, new BigDecimal("0.5"), new BigDecimal("4.00")));
+        assertEquals("100,5", DecimalKernel.compute(OperationType.ADDITION, new BigDecimal("100.5000"), BigDecimal.ZERO));
+    }
+
+    @Test
+    void compute_unsupportedInputs_returnNull() {
+        assertNull(DecimalKernel.compute(OperationType.DIVISION, BigDecimal.TEN, BigDecimal.ONE));
+        assertNull(DecimalKernel.compute(OperationType.SQUARE_ROOT, BigDecimal.TEN, null));
+        assertNull(DecimalKernel.compute(null, BigDecimal.TEN, BigDecimal.ONE));
+        assertNull(DecimalKernel.compute(OperationType.ADDITION, new BigDecimal("1E+3"), BigDecimal.ONE));
+        assertNull(DecimalKernel.compute(OperationType.ADDITION, new BigDecimal("1e-19"), BigDecimal.ONE));
+        assertNull(DecimalKernel.compute(OperationType.ADDITION, new BigDecimal("18446744073709551616"), BigDecimal.ONE));
+    }
+
+    @Test
+    void compute_overflow_returnNull() {
+        BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE);
+
+        assertNull(DecimalKernel.compute(OperationType.ADDITION, max, BigDecimal.ONE));
+        assertNull(DecimalKernel.compute(OperationType.SUBTRACTION, max.negate(), BigDecimal.valueOf(2)));
+        assertNull(DecimalKernel.compute(OperationType.MULTIPLICATION, max, BigDecimal.valueOf(2)));
+        assertNull(DecimalKernel.compute(OperationType.ADDITION, max, new BigDecimal("0.1")));
+    }
+
+    @Test
+    void compute_randomOperands_identicalToBigDecimalPath() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal value1 = randomDecimal(random);
+            BigDecimal value2 = randomDecimal(random);
+
+            for (OperationType type : FAST_TYPES) {
+                String fast = DecimalKernel.compute(type, value1, value2);
+                if (fast == null) {
+                    continue;
+                }
+                BigDecimal expected = switch (type) {
+                    case ADDITION -> value1.add(value2);
+                    case SUBTRACTION -> value1.subtract(value2);
+                    default -> value1.multiply(value2);
+                };
+                assertEquals(OperationServiceImpl.formatBigDecimal(expected), fast,
+                        () -> type + " " + value1 + " " + value2);
+            }
+        }
+    }
+
+    private static BigDecimal randomDecimal(Random random) {
+        long unscaled = switch (random.nextInt(3)) {
+            case 0 -> random.nextLong();
+            case 1 -> random.nextInt();
+            default -> random.nextInt(2000) - 1000;
+        };
+        return BigDecimal.valueOf(unscaled, random.nextInt(22) - 2);
+    }
+}
@@ -2,18 +2,23 @@ package org.exercise.core.services;
 
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
+import org.exercise.core.dtos.BatchOperationItem;
+import org.exercise.core.dtos.BatchOperationResult;
 import org.exercise.core.entities.Balance;
 import org.exercise.core.entities.Record;
 import org.exercise.core.entities.Operation;
 import org.exercise.core.entities.User;
 import org.exercise.core.enums.OperationType;
+import org.exercise.core.expressions.ExpressionCompiler;
+import org.exercise.core.exceptions.BadGatewayException;
 import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.NotFoundException;
 import org.exercise.core.exceptions.PaymentRequiredException;
 import org.exercise.core.exceptions.UnsupportedOperationException;
 import org.exercise.core.interfaces.OperationService;
-import org.exercise.infrastructure.clients.RandomStringClient;
-import org.exercise.infrastructure.persistence.OperationRepository;
+import org.exercise.core.interfaces.TokenVerifier;
+import org.exercise.infrastructure.clients.RandomStringPool;
+import org.exercise.infrastructure.persistence.OperationCatalog;
 import org.exercise.infrastructure.persistence.RecordRepository;
 import org.exercise.infrastructure.persistence.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,9 +26,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.text.ParseException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,13 +50,22 @@ class OperationServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private OperationRepository operationRepository;
+    private OperationCatalog operationCatalog;
 
     @Mock
     private RecordRepository recordRepository;
 
     @Mock
-    private RandomStringClient client;
+    private RandomStringPool randomStringPool;
+
+    @Spy
+    private ExpressionCompiler expressionCompiler = new ExpressionCompiler();
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private TokenVerifier tokenVerifier = new TokenVerifierImpl(null, null, false, Clock.systemUTC());
 
     @InjectMocks
     private OperationServiceImpl operationService;
@@ -61,6 +83,12 @@ class OperationServiceImplTest {
         value2 = BigDecimal.valueOf(20);
     }
 
+    private void setPrivateField(Object targetObject, String fieldName, Object value) throws Exception {
+        Field field = targetObject.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(targetObject, value);
+    }
+
     @Test
     void testDoOperation_Success() throws ParseException {
         String token = "valid.token.here";
@@ -75,11 +103,11 @@ class OperationServiceImplTest {
             when(signedJWT.getJWTClaimsSet()).thenReturn(claimsSet);
             when(claimsSet.getStringClaim("sub")).thenReturn(userId.toString());
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-            when(userRepository.save(user)).thenAnswer(invocation -> invocation.getArgument(0));
+            when(userRepository.debitBalance(userId, 10)).thenReturn(Optional.of(90));
+            when(userRepository.getReferenceById(userId)).thenReturn(user);
 
             Operation additionOperation = new Operation(OperationType.ADDITION, 10);
-            when(operationRepository.findByType(OperationType.ADDITION)).thenReturn(Optional.of(additionOperation));
+            when(operationCatalog.findByType(OperationType.ADDITION)).thenReturn(Optional.of(additionOperation));
 
             when(recordRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -88,10 +116,45 @@ class OperationServiceImplTest {
             assertNotNull(result);
             assertEquals(OperationType.ADDITION, result.getOperation().getType());
             assertEquals("30", result.getOperationResponse()); // Resultado da soma
-            assertEquals(90, result.getUser().getBalance().getAmount()); // Saldo reduzido
-            verify(userRepository).findById(userId);
-            verify(operationRepository).findByType(OperationType.ADDITION);
+            assertEquals(90, result.getUserBalance()); // Saldo reduzido
+            verify(userRepository).debitBalance(userId, 10);
+            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).save(any());
+            verify(operationCatalog).findByType(OperationType.ADDITION);
             verify(recordRepository).save(any());
+            verify(recordRepository).addToStats(user.getId(), "ADDITION", 1, 10);
+        }
+    }
+
+    @Test
+    void testDoOperation_ReadModifyWriteMode() throws Exception {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+        String type = "ADDITION";
+        setPrivateField(operationService, "atomicDebit", false);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            SignedJWT signedJWT = mock(SignedJWT.class);
+            JWTClaimsSet claimsSet = mock(JWTClaimsSet.class);
+
+            mockedJWT.when(() -> SignedJWT.parse(token)).thenReturn(signedJWT);
+            when(signedJWT.getJWTClaimsSet()).thenReturn(claimsSet);
+            when(claimsSet.getStringClaim("sub")).thenReturn(userId.toString());
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+            when(userRepository.save(user)).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Operation additionOperation = new Operation(OperationType.ADDITION, 10);
+            when(operationCatalog.findByType(OperationType.ADDITION)).thenReturn(Optional.of(additionOperation));
+
+            when(recordRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Record result = operationService.doOperation(token, type, value1, value2);
+
+            assertEquals("30", result.getOperationResponse());
+            assertEquals(90, result.getUser().getBalance().getAmount());
+            verify(userRepository).findById(userId);
+            verify(userRepository, never()).debitBalance(any(), anyInt());
         }
     }
 
@@ -119,7 +182,10 @@ class OperationServiceImplTest {
             when(signedJWT.getJWTClaimsSet()).thenReturn(claimsSet);
             when(claimsSet.getStringClaim("sub")).thenReturn(userId.toString());
 
-            when(userRepository.findById(userId)).thenReturn(Optional.empty());
+            when(operationCatalog.findByType(OperationType.ADDITION))
+                    .thenReturn(Optional.of(new Operation(OperationType.ADDITION, 10)));
+            when(userRepository.debitBalance(userId, 10)).thenReturn(Optional.empty());
+            when(userRepository.existsById(userId)).thenReturn(false);
 
             NotFoundException exception = assertThrows(NotFoundException.class,
                     () -> operationService.doOperation(token, type, value1, value2));
@@ -141,15 +207,84 @@ class OperationServiceImplTest {
             when(signedJWT.getJWTClaimsSet()).thenReturn(claimsSet);
             when(claimsSet.getStringClaim("sub")).thenReturn(userId.toString());
 
-            user.getBalance().setAmount(5);
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
             Operation additionOperation = new Operation(OperationType.ADDITION, 10);
-            when(operationRepository.findByType(OperationType.ADDITION)).thenReturn(Optional.of(additionOperation));
+            when(operationCatalog.findByType(OperationType.ADDITION)).thenReturn(Optional.of(additionOperation));
+            when(userRepository.debitBalance(userId, 10)).thenReturn(Optional.empty());
+            when(userRepository.existsById(userId)).thenReturn(true);
 
             PaymentRequiredException exception = assertThrows(PaymentRequiredException.class,
                     () -> operationService.doOperation(token, type, value1, value2));
             assertEquals("Insufficient User Balance for this operation", exception.getMessage());
+            verify(recordRepository, never()).save(any());
+        }
+    }
+
+    @Test
+    void testDoOperation_RandomString_DebitsAndSavesInOneTransaction() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            when(operationCatalog.findByType(OperationType.RANDOM_STRING))
+                    .thenReturn(Optional.of(new Operation(OperationType.RANDOM_STRING, 15)));
+            when(randomStringPool.fetchRandomString(2)).thenReturn("abcdefgh\nijklmnop\n");
+            when(userRepository.debitBalance(userId, 15)).thenReturn(Optional.of(85));
+            when(userRepository.getReferenceById(userId)).thenReturn(user);
+            when(recordRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Record result = operationService.doOperation(token, "random_string", BigDecimal.valueOf(2), null);
+
+            assertEquals("abcdefgh\nijklmnop\n", result.getOperationResponse());
+            assertEquals(85, result.getUserBalance());
+            verify(transactionTemplate, times(1)).execute(any());
+            verify(randomStringPool, never()).release(any());
+        }
+    }
+
+    @Test
+    void testDoOperation_RandomString_FetchFailureDoesNotCharge() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            when(operationCatalog.findByType(OperationType.RANDOM_STRING))
+                    .thenReturn(Optional.of(new Operation(OperationType.RANDOM_STRING, 15)));
+            when(randomStringPool.fetchRandomString(2))
+                    .thenThrow(new BadGatewayException("An error occurred when trying to access the random string api"));
+
+            BadGatewayException exception = assertThrows(BadGatewayException.class,
+                    () -> operationService.doOperation(token, "random_string", BigDecimal.valueOf(2), null));
+
+            assertEquals("An error occurred when trying to access the random string api", exception.getMessage());
+            verify(transactionTemplate, never()).execute(any());
+            verify(userRepository, never()).debitBalance(any(), anyInt());
+            verify(recordRepository, never()).save(any());
+        }
+    }
+
+    @Test
+    void testDoOperation_RandomString_InsufficientFundsSavesNothing() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            when(operationCatalog.findByType(OperationType.RANDOM_STRING))
+                    .thenReturn(Optional.of(new Operation(OperationType.RANDOM_STRING, 15)));
+            when(randomStringPool.fetchRandomString(2)).thenReturn("abcdefgh\nijklmnop\n");
+            when(userRepository.debitBalance(userId, 15)).thenReturn(Optional.empty());
+            when(userRepository.existsById(userId)).thenReturn(true);
+
+            assertThrows(PaymentRequiredException.class,
+                    () -> operationService.doOperation(token, "random_string", BigDecimal.valueOf(2), null));
+
+            verify(recordRepository, never()).save(any());
+            verify(randomStringPool).release("abcdefgh\nijklmnop\n");
         }
     }
 
@@ -222,6 +357,39 @@ class OperationServiceImplTest {
         verify(userRepository).save(user);
     }
 
+    @Test
+    void testDebitBalance_Success() {
+        UUID userId = user.getId();
+        when(userRepository.debitBalance(userId, 20)).thenReturn(Optional.of(80));
+
+        Integer balance = operationService.debitBalance(userId, 20);
+
+        assertEquals(80, balance);
+        verify(userRepository, never()).existsById(any());
+    }
+
+    @Test
+    void testDebitBalance_InsufficientFunds() {
+        UUID userId = user.getId();
+        when(userRepository.debitBalance(userId, 20)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(true);
+
+        PaymentRequiredException exception = assertThrows(PaymentRequiredException.class,
+                () -> operationService.debitBalance(userId, 20));
+        assertEquals("Insufficient User Balance for this operation", exception.getMessage());
+    }
+
+    @Test
+    void testDebitBalance_UserNotFound() {
+        UUID userId = user.getId();
+        when(userRepository.debitBalance(userId, 20)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> operationService.debitBalance(userId, 20));
+        assertEquals("User not found. Try logging in again", exception.getMessage());
+    }
+
     @Test
     void testCheckBalance_InsufficientFunds() {
         user.getBalance().setAmount(5);
@@ -241,7 +409,7 @@ class OperationServiceImplTest {
 
     @Test
     void testGetOperation_NotFound() {
-        when(operationRepository.findByType(OperationType.ADDITION)).thenReturn(Optional.empty());
+        when(operationCatalog.findByType(OperationType.ADDITION)).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> operationService.getOperation(OperationType.ADDITION, BigDecimal.TEN, BigDecimal.ONE));
@@ -262,8 +430,6 @@ class OperationServiceImplTest {
             when(signedJWT.getJWTClaimsSet()).thenReturn(claimsSet);
             when(claimsSet.getStringClaim("sub")).thenReturn(userId.toString());
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
             BadRequestException exception = assertThrows(BadRequestException.class,
                     () -> operationService.doOperation(token, type, null, value2));
             assertEquals("The first value (value1) is required for operation: ADDITION", exception.getMessage());
@@ -284,8 +450,6 @@ class OperationServiceImplTest {
             when(signedJWT.getJWTClaimsSet()).thenReturn(claimsSet);
             when(claimsSet.getStringClaim("sub")).thenReturn(userId.toString());
 
-            when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-
             BadRequestException exception = assertThrows(BadRequestException.class,
                     () -> operationService.doOperation(token, type, value1, null));
             assertEquals("The second value (value2) is required for operation: ADDITION", exception.getMessage());
@@ -340,7 +504,7 @@ class OperationServiceImplTest {
 
     @Test
     void testExecuteOperation_RandomString() {
-        when(client.fetchRandomString(5)).thenReturn("random");
+        when(randomStringPool.fetchRandomString(5)).thenReturn("random");
         String result = operationService.executeOperation(OperationType.RANDOM_STRING, new BigDecimal("5"), null);
         assertEquals("random", result);
     }
@@ -436,4 +600,210 @@ class OperationServiceImplTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    void testDoBatchOperation_ChargesOnceAndReturnsResultsInOrder() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            when(operationCatalog.findByType(OperationType.ADDITION))
+                    .thenReturn(Optional.of(new Operation(OperationType.ADDITION, 10)));
+            when(operationCatalog.findByType(OperationType.DIVISION))
+                    .thenReturn(Optional.of(new Operation(OperationType.DIVISION, 20)));
+            when(userRepository.debitBalance(userId, 30)).thenReturn(Optional.of(70));
+            when(userRepository.getReferenceById(userId)).thenReturn(user);
+            when(recordRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            List<BatchOperationItem> items = List.of(
+                    new BatchOperationItem("addition", value1, value2),
+                    new BatchOperationItem("division", BigDecimal.ONE, BigDecimal.ZERO),
+                    new BatchOperationItem("unknown", value1, value2),
+                    new BatchOperationItem("division", value2, value1)
+            );
+
+            List<BatchOperationResult> results = operationService.doBatchOperation(token, items);
+
+            assertEquals(4, results.size());
+            assertEquals("30", results.get(0).record().getOperationResponse());
+            assertEquals(90, results.get(0).record().getUserBalance());
+            assertEquals("Division by 0 is not possible", results.get(1).error());
+            assertNull(results.get(1).record());
+            assertNotNull(results.get(2).error());
+            assertEquals("2", results.get(3).record().getOperationResponse());
+            assertEquals(70, results.get(3).record().getUserBalance());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).index());
+            }
+
+            verify(userRepository, times(1)).debitBalance(userId, 30);
+            verify(recordRepository, times(1)).saveAll(anyList());
+            verify(recordRepository, never()).save(any());
+            verify(recordRepository).addToStats(userId, "ADDITION", 1, 10);
+            verify(recordRepository).addToStats(userId, "DIVISION", 1, 20);
+        }
+    }
+
+    @Test
+    void testDoBatchOperation_UnexpectedItemFailure_KeepsOtherItems() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            when(operationCatalog.findByType(OperationType.ADDITION))
+                    .thenReturn(Optional.of(new Operation(OperationType.ADDITION, 10)));
+            when(operationCatalog.findByType(OperationType.RANDOM_STRING))
+                    .thenReturn(Optional.of(new Operation(OperationType.RANDOM_STRING, 15)));
+            when(randomStringPool.fetchRandomString(2)).thenThrow(new IllegalStateException("pool closed"));
+            when(userRepository.debitBalance(userId, 10)).thenReturn(Optional.of(90));
+            when(userRepository.getReferenceById(userId)).thenReturn(user);
+            when(recordRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            List<BatchOperationResult> results = operationService.doBatchOperation(token, List.of(
+                    new BatchOperationItem("random_string", BigDecimal.valueOf(2), null),
+                    new BatchOperationItem("addition", value1, value2)
+            ));
+
+            assertEquals(OperationServiceImpl.BATCH_ITEM_ERROR, results.get(0).error());
+            assertEquals("30", results.get(1).record().getOperationResponse());
+            verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        }
+    }
+
+    @Test
+    void testDoBatchOperation_AllItemsFail_DoesNotCharge() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            List<BatchOperationResult> results = operationService.doBatchOperation(token,
+                    List.of(new BatchOperationItem("square_root", value1, value2)));
+
+            assertEquals("Invalid payload: value2 is not allowed for operation: SQUARE_ROOT", results.get(0).error());
+            verify(userRepository, never()).debitBalance(any(), anyInt());
+            verify(recordRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Test
+    void testDoBatchOperation_InsufficientFunds() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            when(operationCatalog.findByType(OperationType.ADDITION))
+                    .thenReturn(Optional.of(new Operation(OperationType.ADDITION, 60)));
+            when(userRepository.debitBalance(userId, 120)).thenReturn(Optional.empty());
+            when(userRepository.existsById(userId)).thenReturn(true);
+
+            List<BatchOperationItem> items = List.of(
+                    new BatchOperationItem("addition", value1, value2),
+                    new BatchOperationItem("addition", value2, value1)
+            );
+
+            assertThrows(PaymentRequiredException.class, () -> operationService.doBatchOperation(token, items));
+            verify(recordRepository, never()).saveAll(anyList());
+        }
+    }
+
+    @Test
+    void testDoBatchOperation_InvalidSize() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+        List<BatchOperationItem> tooMany = new ArrayList<>(Collections.nCopies(OperationServiceImpl.MAX_BATCH_SIZE + 1,
+                new BatchOperationItem("addition", value1, value2)));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            assertThrows(BadRequestException.class, () -> operationService.doBatchOperation(token, List.of()));
+            assertThrows(BadRequestException.class, () -> operationService.doBatchOperation(token, null));
+            assertThrows(BadRequestException.class, () -> operationService.doBatchOperation(token, tooMany));
+        }
+    }
+
+    @Test
+    void testDoExpression_ChargesEveryNodeAndSavesOneRecord() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            Operation division = new Operation(OperationType.DIVISION, 4);
+            when(operationCatalog.findByType(OperationType.ADDITION))
+                    .thenReturn(Optional.of(new Operation(OperationType.ADDITION, 1)));
+            when(operationCatalog.findByType(OperationType.MULTIPLICATION))
+                    .thenReturn(Optional.of(new Operation(OperationType.MULTIPLICATION, 2)));
+            when(operationCatalog.findByType(OperationType.SQUARE_ROOT))
+                    .thenReturn(Optional.of(new Operation(OperationType.SQUARE_ROOT, 3)));
+            when(operationCatalog.findByType(OperationType.DIVISION)).thenReturn(Optional.of(division));
+            when(userRepository.debitBalance(userId, 10)).thenReturn(Optional.of(90));
+            when(userRepository.getReferenceById(userId)).thenReturn(user);
+            when(recordRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Record result = operationService.doExpression(token, "(a+b)*sqrt(c)/d", Map.of(
+                    "a", BigDecimal.ONE,
+                    "b", BigDecimal.valueOf(2),
+                    "c", BigDecimal.valueOf(16),
+                    "d", BigDecimal.valueOf(8)));
+
+            assertEquals("1,5", result.getOperationResponse());
+            assertEquals(10, result.getAmount());
+            assertEquals(90, result.getUserBalance());
+            assertSame(division, result.getOperation());
+            verify(userRepository, times(1)).debitBalance(userId, 10);
+            verify(recordRepository, times(1)).save(any());
+        }
+    }
+
+    @Test
+    void testDoExpression_WithoutOperations_ThrowsBadRequest() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            BadRequestException exception = assertThrows(BadRequestException.class,
+                    () -> operationService.doExpression(token, "42", Map.of()));
+            assertEquals("Expression must contain at least one operation", exception.getMessage());
+            verify(userRepository, never()).debitBalance(any(), anyInt());
+        }
+    }
+
+    @Test
+    void testDoExpression_DivisionByZero() throws ParseException {
+        String token = "valid.token.here";
+        UUID userId = UUID.randomUUID();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            when(operationCatalog.findByType(OperationType.DIVISION))
+                    .thenReturn(Optional.of(new Operation(OperationType.DIVISION, 4)));
+            when(userRepository.debitBalance(userId, 4)).thenReturn(Optional.of(96));
+            when(userRepository.getReferenceById(userId)).thenReturn(user);
+
+            assertThrows(UnsupportedOperationException.class,
+                    () -> operationService.doExpression(token, "1 / 0", Map.of()));
+            verify(recordRepository, never()).save(any());
+        }
+    }
+
+    private void stubToken(MockedStatic<SignedJWT> mockedJWT, String token, UUID userId) throws ParseException {
+        SignedJWT signedJWT = mock(SignedJWT.class);
+        JWTClaimsSet claimsSet = mock(JWTClaimsSet.class);
+
+        mockedJWT.when(() -> SignedJWT.parse(token)).thenReturn(signedJWT);
+        when(signedJWT.getJWTClaimsSet()).thenReturn(claimsSet);
+        when(claimsSet.getStringClaim("sub")).thenReturn(userId.toString());
+    }
+}
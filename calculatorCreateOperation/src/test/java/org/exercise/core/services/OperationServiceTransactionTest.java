@@ -0,0 +1,153 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.exercise.core.dtos.BatchOperationItem;
+import org.exercise.core.dtos.BatchOperationResult;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.entities.User;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.expressions.ExpressionCompiler;
+import org.exercise.core.interfaces.OperationService;
+import org.exercise.core.interfaces.TokenVerifier;
+import org.exercise.infrastructure.clients.RandomStringPool;
+import org.exercise.infrastructure.persistence.OperationCatalog;
+import org.exercise.infrastructure.persistence.RecordRepository;
+import org.exercise.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OperationServiceTransactionTest {
+
+    @Test
+    void doBatchOperation_computesItemsOutsideTheTransaction() throws Exception {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Config.class)) {
+            UUID userId = UUID.randomUUID();
+            User user = new User();
+            user.setId(userId);
+            List<Boolean> activeWhileFetching = new ArrayList<>();
+            List<Boolean> activeWhileSaving = new ArrayList<>();
+
+            OperationCatalog operationCatalog = context.getBean(OperationCatalog.class);
+            RandomStringPool randomStringPool = context.getBean(RandomStringPool.class);
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            RecordRepository recordRepository = context.getBean(RecordRepository.class);
+            when(operationCatalog.findByType(OperationType.RANDOM_STRING))
+                    .thenReturn(Optional.of(new Operation(OperationType.RANDOM_STRING, 15)));
+            when(randomStringPool.fetchRandomString(2)).thenAnswer(invocation -> {
+                activeWhileFetching.add(TransactionSynchronizationManager.isActualTransactionActive());
+                return "abcdefgh\nijklmnop\n";
+            });
+            when(userRepository.debitBalance(userId, 15)).thenReturn(Optional.of(85));
+            when(userRepository.getReferenceById(userId)).thenReturn(user);
+            when(recordRepository.saveAll(anyList())).thenAnswer(invocation -> {
+                activeWhileSaving.add(TransactionSynchronizationManager.isActualTransactionActive());
+                return invocation.getArgument(0);
+            });
+
+            List<BatchOperationResult> results = context.getBean(OperationService.class).doBatchOperation(token(userId),
+                    List.of(new BatchOperationItem("random_string", BigDecimal.valueOf(2), null)));
+
+            assertEquals("abcdefgh\nijklmnop\n", results.get(0).record().getOperationResponse());
+            assertEquals(List.of(false), activeWhileFetching);
+            assertEquals(List.of(true), activeWhileSaving);
+        }
+    }
+
+    private static String token(UUID userId) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder().subject(userId.toString()).build());
+        jwt.sign(new MACSigner("0123456789abcdef0123456789abcdef"));
+        return jwt.serialize();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(OperationServiceImpl.class)
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new InMemoryTransactionManager();
+        }
+
+        @Bean
+        TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+            return new TransactionTemplate(transactionManager);
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        OperationCatalog operationCatalog() {
+            return mock(OperationCatalog.class);
+        }
+
+        @Bean
+        RecordRepository recordRepository() {
+            return mock(RecordRepository.class);
+        }
+
+        @Bean
+        RandomStringPool randomStringPool() {
+            return mock(RandomStringPool.class);
+        }
+
+        @Bean
+        ExpressionCompiler expressionCompiler() {
+            return new ExpressionCompiler();
+        }
+
+        @Bean
+        TokenVerifier tokenVerifier() {
+            return new TokenVerifierImpl(null, null, false, Clock.systemUTC());
+        }
+    }
+
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package org.exercise.core.services;
+
+import org.exercise.core.enums.SquareRootMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SquareRootBenchmark {
+
+    @Param({"NEWTON", "CORRECTLY_ROUNDED"})
+    public SquareRootMode mode;
+
+    @Param({"2", "494649.1", "0.000000000000123", "164116622150783.3961", "98765432109876543210.123456789"})
+    public String input;
+
+    private BigDecimal value;
+
+    @Setup
+    public void setUp() {
+        value = new BigDecimal(input);
+    }
+
+    @Benchmark
+    public BigDecimal sqrt() {
+        return OperationServiceImpl.sqrt(value, OperationServiceImpl.SQUARE_ROOT_PRECISION, mode);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SquareRootBenchmark.class.getSimpleName()).build()).run();
+    }
+}
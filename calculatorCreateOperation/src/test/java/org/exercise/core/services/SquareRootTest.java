@@ -0,0 +1,113 @@
+package org.exercise.core.services;
+
+import org.exercise.core.enums.SquareRootMode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SquareRootTest {
+
+    private static final MathContext PRECISION = OperationServiceImpl.SQUARE_ROOT_PRECISION;
+
+    @Test
+    void sqrt_newton_matchesLegacyNewtonOutput() {
+        for (BigDecimal value : randomInputs(new Random(7), 20_000)) {
+            BigDecimal legacy = legacySqrt(value);
+            BigDecimal current = OperationServiceImpl.sqrt(value, PRECISION, SquareRootMode.NEWTON);
+
+            assertEquals(OperationServiceImpl.formatBigDecimal(legacy), OperationServiceImpl.formatBigDecimal(current),
+                    () -> "sqrt(" + value + ")");
+        }
+    }
+
+    @Test
+    void sqrt_correctlyRounded_matchesJdk() {
+        for (BigDecimal value : randomInputs(new Random(11), 5_000)) {
+            assertEquals(value.sqrt(PRECISION),
+                    OperationServiceImpl.sqrt(value, PRECISION, SquareRootMode.CORRECTLY_ROUNDED));
+        }
+    }
+
+    @Test
+    void sqrt_resultsAreWithinOneUlpOfCorrectlyRounded() {
+        for (BigDecimal value : randomInputs(new Random(13), 5_000)) {
+            BigDecimal newton = OperationServiceImpl.sqrt(value, PRECISION, SquareRootMode.NEWTON).round(PRECISION);
+            BigDecimal exact = value.sqrt(PRECISION);
+
+            assertTrue(newton.subtract(exact).abs().compareTo(exact.ulp()) <= 0, () -> "sqrt(" + value + ")");
+        }
+    }
+
+    @Test
+    void sqrt_edgeCases() {
+        assertEquals("0", OperationServiceImpl.formatBigDecimal(
+                OperationServiceImpl.sqrt(BigDecimal.ZERO, PRECISION, SquareRootMode.NEWTON)));
+        assertEquals("0", OperationServiceImpl.formatBigDecimal(
+                OperationServiceImpl.sqrt(new BigDecimal("0.000"), PRECISION, SquareRootMode.NEWTON)));
+        assertEquals("2", OperationServiceImpl.formatBigDecimal(
+                OperationServiceImpl.sqrt(new BigDecimal("4.00"), PRECISION, SquareRootMode.NEWTON)));
+        assertEquals(0, new BigDecimal("1E+200").compareTo(
+                OperationServiceImpl.sqrt(new BigDecimal("1E+400"), PRECISION, SquareRootMode.NEWTON)));
+        assertEquals(0, new BigDecimal("1E-200").compareTo(
+                OperationServiceImpl.sqrt(new BigDecimal("1E-400"), PRECISION, SquareRootMode.NEWTON)));
+    }
+
+    @Test
+    void sqrt_completesWithinLatencyBound() {
+        List<BigDecimal> inputs = randomInputs(new Random(17), 10_000);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (BigDecimal value : inputs) {
+                OperationServiceImpl.sqrt(value, PRECISION, SquareRootMode.NEWTON);
+            }
+        });
+    }
+
+    @Test
+    void squareRootMode_fromValue() {
+        assertEquals(SquareRootMode.NEWTON, SquareRootMode.fromValue(null));
+        assertEquals(SquareRootMode.NEWTON, SquareRootMode.fromValue("invalid"));
+        assertEquals(SquareRootMode.CORRECTLY_ROUNDED, SquareRootMode.fromValue("correctly_rounded"));
+    }
+
+    static List<BigDecimal> randomInputs(Random random, int count) {
+        List<BigDecimal> inputs = new ArrayList<>(count);
+        while (inputs.size() < count) {
+            BigDecimal value = switch (random.nextInt(5)) {
+                case 0 -> BigDecimal.valueOf(random.nextInt(100_000));
+                case 1 -> BigDecimal.valueOf(random.nextLong() & Long.MAX_VALUE, random.nextInt(30) - 5);
+                case 2 -> new BigDecimal(random.nextDouble() * 1e6).round(new MathContext(1 + random.nextInt(25)));
+                case 3 -> BigDecimal.valueOf(random.nextInt(1000) + 1, random.nextInt(40));
+                default -> {
+                    long root = random.nextInt(1_000_000);
+                    yield BigDecimal.valueOf(root * root);
+                }
+            };
+            if (value.signum() > 0) {
+                inputs.add(value);
+            }
+        }
+        return inputs;
+    }
+
+    private static BigDecimal legacySqrt(BigDecimal value) {
+        BigDecimal x0 = BigDecimal.ZERO;
+        BigDecimal x1 = BigDecimal.valueOf(Math.sqrt(value.doubleValue()));
+        int iterations = 0;
+        while (!x0.equals(x1)) {
+            assertTrue(++iterations < 1000, () -> "legacy sqrt did not converge for " + value);
+            x0 = x1;
+            x1 = value.divide(x0, PRECISION);
+            x1 = x1.add(x0);
+            x1 = x1.divide(BigDecimal.valueOf(2), PRECISION);
+        }
+        return x1;
+    }
+}
@@ -1,5 +1,8 @@
 package org.exercise.http.controllers;
 
+import org.exercise.core.dtos.BatchOperationItem;
+import org.exercise.core.dtos.BatchOperationResult;
+import org.exercise.core.dtos.ExpressionRequest;
 import org.exercise.core.dtos.Values;
 import org.exercise.core.entities.Operation;
 import org.exercise.core.entities.Record;
@@ -14,6 +17,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -65,4 +70,41 @@ class OperationControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(operationService, times(1)).doOperation(accessToken, type, values.value1(), values.value2());
     }
+
+    @Test
+    void doBatchOperation_shouldReturnResultsInOrder() {
+        String accessToken = "dummyAccessToken";
+        List<BatchOperationItem> items = List.of(
+                new BatchOperationItem("addition", BigDecimal.ONE, BigDecimal.TEN),
+                new BatchOperationItem("division", BigDecimal.ONE, BigDecimal.ZERO)
+        );
+        Record record = new Record(new Operation(), new User(), 10, 90, "11");
+        List<BatchOperationResult> expected = List.of(
+                BatchOperationResult.success(0, "addition", record),
+                BatchOperationResult.failure(1, "division", "Division by 0 is not possible")
+        );
+
+        when(operationService.doBatchOperation(accessToken, items)).thenReturn(expected);
+
+        ResponseEntity<List<BatchOperationResult>> response = operationController.doBatchOperation(accessToken, items);
+
+        assertEquals(expected, response.getBody());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(operationService, times(1)).doBatchOperation(accessToken, items);
+    }
+
+    @Test
+    void doExpression_shouldReturnRecordResponse() {
+        String accessToken = "dummyAccessToken";
+        ExpressionRequest request = new ExpressionRequest("a * 2", Map.of("a", BigDecimal.TEN));
+        Record expectedRecord = new Record(new Operation(), new User(), 2, 98, "20");
+
+        when(operationService.doExpression(accessToken, request.expression(), request.variables()))
+                .thenReturn(expectedRecord);
+
+        ResponseEntity<Record> response = operationController.doExpression(accessToken, request);
+
+        assertEquals(expectedRecord, response.getBody());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
 }
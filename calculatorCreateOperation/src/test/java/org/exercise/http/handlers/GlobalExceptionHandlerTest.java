@@ -43,6 +43,14 @@ class GlobalExceptionHandlerTest {
         assertEquals("Bad request", response.getBody().message());
     }
 
+    @Test
+    void handleUnauthorizedException_shouldReturnUnauthorized() {
+        UnauthorizedException ex = new UnauthorizedException("Token has expired");
+        ResponseEntity<ResponseTemplate> response = exceptionHandler.handleUnauthorizedException(ex);
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Token has expired", response.getBody().message());
+    }
+
     @Test
     void handlePaymentRequiredException_shouldReturnPaymentRequiredError() {
         PaymentRequiredException ex = new PaymentRequiredException("Payment required");
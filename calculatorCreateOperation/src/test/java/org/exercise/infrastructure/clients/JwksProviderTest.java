@@ -0,0 +1,112 @@
+package org.exercise.infrastructure.clients;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwksProviderTest {
+
+    @TempDir
+    Path directory;
+
+    private JwksStandIn standIn;
+    private Path snapshot;
+
+    @BeforeEach
+    void setUp() {
+        standIn = JwksStandIn.start();
+        snapshot = directory.resolve("jwks.json");
+    }
+
+    @AfterEach
+    void tearDown() {
+        standIn.close();
+    }
+
+    @Test
+    void verifierFor_knownKey_fetchesOnce() {
+        JwksProvider provider = new JwksProvider(standIn.jwksUri(), snapshot, Duration.ofMinutes(1));
+
+        assertNotNull(provider.verifierFor(JwksStandIn.KEY_ID));
+        assertNotNull(provider.verifierFor(JwksStandIn.KEY_ID));
+        assertEquals(1, standIn.requests());
+    }
+
+    @Test
+    void verifierFor_rotatedKey_refreshesTheKeySet() throws Exception {
+        JwksProvider provider = new JwksProvider(standIn.jwksUri(), snapshot, Duration.ZERO);
+        provider.preload();
+
+        standIn.publish("standin-key-2");
+
+        assertNotNull(provider.verifierFor("standin-key-2"));
+        assertEquals(2, standIn.requests());
+    }
+
+    @Test
+    void verifierFor_unknownKey_refreshesAtMostOncePerInterval() {
+        JwksProvider provider = new JwksProvider(standIn.jwksUri(), snapshot, Duration.ofMinutes(1));
+        provider.preload();
+
+        assertNull(provider.verifierFor("unknown-1"));
+        assertNull(provider.verifierFor("unknown-2"));
+        assertNull(provider.verifierFor(null));
+        assertEquals(1, standIn.requests());
+    }
+
+    @Test
+    void preload_snapshotOnDisk_startsWithoutFetching() {
+        new JwksProvider(standIn.jwksUri(), snapshot, Duration.ofMinutes(1)).preload();
+        assertTrue(Files.exists(snapshot));
+
+        JwksProvider coldStart = new JwksProvider(URI.create("http://localhost:1/jwks.json"), snapshot, Duration.ofMinutes(1));
+        coldStart.preload();
+
+        assertNotNull(coldStart.verifierFor(JwksStandIn.KEY_ID));
+        assertEquals(1, standIn.requests());
+    }
+
+    @Test
+    void preload_corruptSnapshot_fetchesTheKeySet() throws Exception {
+        Files.writeString(snapshot, "not a key set");
+        JwksProvider provider = new JwksProvider(standIn.jwksUri(), snapshot, Duration.ofMinutes(1));
+
+        provider.preload();
+
+        assertNotNull(provider.verifierFor(JwksStandIn.KEY_ID));
+        assertEquals(1, standIn.requests());
+    }
+
+    @Test
+    void refresh_snapshotNotWritable_keepsTheFetchedKeys() {
+        Path readOnly = directory.resolve("layer").resolve("jwks.json");
+        JwksProvider provider = new JwksProvider(standIn.jwksUri(), readOnly, Duration.ofMinutes(1));
+
+        assertNotNull(provider.verifierFor(JwksStandIn.KEY_ID));
+        assertFalse(Files.exists(readOnly));
+        assertFalse(JwksProvider.isWritable(readOnly));
+        assertTrue(JwksProvider.isWritable(snapshot));
+    }
+
+    @Test
+    void snapshotPath_defaultsToTheLambdaLayer() {
+        assertEquals(JwksProvider.DEFAULT_SNAPSHOT, JwksProvider.snapshotPath(null));
+        assertEquals(JwksProvider.DEFAULT_SNAPSHOT, JwksProvider.snapshotPath(" "));
+        assertEquals(Path.of("/tmp/jwks.json"), JwksProvider.snapshotPath("/tmp/jwks.json"));
+    }
+
+    @Test
+    void jwksUri_derivedFromIssuer() {
+        assertEquals(URI.create(JwksStandIn.ISSUER + "/.well-known/jwks.json"), JwksProvider.jwksUri("", JwksStandIn.ISSUER));
+        assertEquals(URI.create("http://localhost/keys"), JwksProvider.jwksUri("http://localhost/keys", JwksStandIn.ISSUER));
+        assertNull(JwksProvider.jwksUri(null, null));
+    }
+}
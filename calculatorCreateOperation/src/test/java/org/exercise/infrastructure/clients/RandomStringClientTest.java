@@ -1,16 +1,22 @@
 package org.exercise.infrastructure.clients;
 
+import com.sun.net.httpserver.HttpServer;
 import org.exercise.core.exceptions.BadGatewayException;
 import org.exercise.core.exceptions.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
-import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.http.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,15 +28,12 @@ class RandomStringClientTest {
     @Mock
     private HttpClient mockHttpClient;
 
-    @Mock
-    private Logger mockLogger;
-
-    @InjectMocks
     private RandomStringClient randomStringClient;
 
     @BeforeEach
-    void setUpEnvironment() throws Exception {
-        randomStringClient = new RandomStringClient();
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        randomStringClient = new RandomStringClient(mockHttpClient, Duration.ofSeconds(5));
 
         setPrivateField(randomStringClient, "baseUrl", "http://mock-api.com");
         setPrivateField(randomStringClient, "len", "8");
@@ -42,11 +45,6 @@ class RandomStringClientTest {
         field.set(targetObject, value);
     }
 
-    @BeforeEach
-    void setUp() {
-        MockitoAnnotations.openMocks(this);
-    }
-
     @Test
     void fetchRandomString_negativeNumber_throwsBadRequestException() {
         assertThrows(BadRequestException.class, () -> randomStringClient.fetchRandomString(-1));
@@ -59,54 +57,38 @@ class RandomStringClientTest {
 
     @Test
     void fetchRandomString_validNumber_returnsString() throws Exception {
-        HttpClient mockHttpClient = mock(HttpClient.class);
         HttpResponse<String> mockResponse = mock(HttpResponse.class);
 
         when(mockResponse.body()).thenReturn("randomstring");
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                 .thenReturn(mockResponse);
 
-        try (MockedStatic<HttpClient> mockedHttpClientStatic = Mockito.mockStatic(HttpClient.class)) {
-            mockedHttpClientStatic.when(HttpClient::newHttpClient).thenReturn(mockHttpClient);
+        String result = randomStringClient.fetchRandomString(5);
 
-            String result = randomStringClient.fetchRandomString(5);
-
-            assertEquals("randomstring", result);
-        }
+        assertEquals("randomstring", result);
     }
+
     @Test
     void fetchRandomString_ioException_throwsBadGatewayException() throws Exception {
-        RandomStringClient randomStringClient = new RandomStringClient();
-
-        HttpClient mockHttpClient = mock(HttpClient.class);
+        RandomStringClient randomStringClient = new RandomStringClient(mockHttpClient, Duration.ofSeconds(5));
 
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                 .thenThrow(new IOException("IO error"));
 
-        try (MockedStatic<HttpClient> mockedHttpClient = Mockito.mockStatic(HttpClient.class)) {
-            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(mockHttpClient);
-
-            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> randomStringClient.fetchRandomString(5));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> randomStringClient.fetchRandomString(5));
 
-            assertEquals("URI with undefined scheme", exception.getMessage());
-        }
+        assertEquals("URI with undefined scheme", exception.getMessage());
     }
 
     @Test
     void fetchRandomString_interruptedException_throwsBadGatewayException() throws Exception {
-        HttpClient mockHttpClient = mock(HttpClient.class);
-
         when(mockHttpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
                 .thenThrow(new InterruptedException("Interrupted"));
 
-        try (MockedStatic<HttpClient> mockedHttpClient = Mockito.mockStatic(HttpClient.class)) {
-            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(mockHttpClient);
-
-            BadGatewayException exception = assertThrows(BadGatewayException.class, () -> randomStringClient.fetchRandomString(5));
+        BadGatewayException exception = assertThrows(BadGatewayException.class, () -> randomStringClient.fetchRandomString(5));
 
-            assertEquals("An error occurred when trying to access the random string api", exception.getMessage());
-            assertTrue(Thread.currentThread().isInterrupted());
-        }
+        assertEquals("An error occurred when trying to access the random string api", exception.getMessage());
+        assertTrue(Thread.interrupted());
     }
 
     @Test
@@ -124,7 +106,6 @@ class RandomStringClientTest {
 
     @Test
     void fetchRandomString_validNumber_correctUrlFormed() throws Exception {
-        HttpClient mockHttpClient = mock(HttpClient.class);
         HttpResponse<String> mockResponse = mock(HttpResponse.class);
 
         when(mockResponse.body()).thenReturn("randomstring");
@@ -134,18 +115,15 @@ class RandomStringClientTest {
 
         ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
 
-        try (MockedStatic<HttpClient> mockedHttpClient = Mockito.mockStatic(HttpClient.class)) {
-            mockedHttpClient.when(HttpClient::newHttpClient).thenReturn(mockHttpClient);
-
-            randomStringClient.fetchRandomString(5);
+        randomStringClient.fetchRandomString(5);
 
-            verify(mockHttpClient).send(requestCaptor.capture(), any(HttpResponse.BodyHandler.class));
+        verify(mockHttpClient).send(requestCaptor.capture(), any(HttpResponse.BodyHandler.class));
 
-            HttpRequest capturedRequest = requestCaptor.getValue();
-            String expectedUrl = "http://mock-api.com?num=5&len=8&digits=off&upperalpha=on&loweralpha=on&unique=on&format=plain&rnd=new";
+        HttpRequest capturedRequest = requestCaptor.getValue();
+        String expectedUrl = "http://mock-api.com?num=5&len=8&digits=off&upperalpha=on&loweralpha=on&unique=on&format=plain&rnd=new";
 
-            assertEquals(expectedUrl, capturedRequest.uri().toString());
-        }
+        assertEquals(expectedUrl, capturedRequest.uri().toString());
+        assertEquals(Duration.ofSeconds(5), capturedRequest.timeout().orElseThrow());
     }
 
     @Test
@@ -166,8 +144,6 @@ class RandomStringClientTest {
         String expectedResponse = "randomString"; // Mocked response body
         String validUrl = validBaseUrl + "?num=5000&len=8&digits=off&upperalpha=on&loweralpha=on&unique=on&format=plain&rnd=new";
 
-        // Mock HttpClient and HttpResponse
-        HttpClient mockHttpClient = mock(HttpClient.class);
         HttpResponse<String> mockResponse = mock(HttpResponse.class);
 
         HttpRequest expectedRequest = HttpRequest.newBuilder()
@@ -178,18 +154,47 @@ class RandomStringClientTest {
         when(mockResponse.body()).thenReturn(expectedResponse);
         when(mockHttpClient.send(any(), any(HttpResponse.BodyHandler.class))).thenReturn(mockResponse);
 
-        // Use MockStatic to mock HttpClient.newHttpClient()
-        try (MockedStatic<HttpClient> mockedStaticHttpClient = mockStatic(HttpClient.class)) {
-            mockedStaticHttpClient.when(HttpClient::newHttpClient).thenReturn(mockHttpClient);
+        // Act
+        String result = randomStringClient.fetchRandomString(validNum);
 
-            // Act
-            String result = randomStringClient.fetchRandomString(validNum);
+        // Assert
+        assertEquals(expectedResponse, result);
+        verify(mockHttpClient).send(eq(expectedRequest), any(HttpResponse.BodyHandler.class));
+    }
 
-            // Assert
-            assertEquals(expectedResponse, result);
-            verify(mockHttpClient).send(eq(expectedRequest), any(HttpResponse.BodyHandler.class));
+    @Test
+    void fetchRandomString_localServer_reusesConnectionAcrossCalls() throws Exception {
+        Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = ("string" + requests.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            RandomStringClient client = new RandomStringClient(
+                    RandomStringClient.buildHttpClient(Duration.ofSeconds(2)), Duration.ofSeconds(2));
+            setPrivateField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/");
+            setPrivateField(client, "len", "8");
+
+            assertEquals("string1", client.fetchRandomString(1));
+            assertEquals("string2", client.fetchRandomString(1));
+            assertEquals("string3", client.fetchRandomString(1));
+
+            assertEquals(3, requests.get());
+            assertEquals(1, clientPorts.size());
+        } finally {
+            server.stop(0);
         }
     }
 
-
+    @Test
+    void timeoutFromEnv_missingVariable_usesDefault() {
+        assertEquals(Duration.ofMillis(1234), RandomStringClient.timeoutFromEnv("RSCLIENT_UNDEFINED_TIMEOUT", 1234));
+    }
 }
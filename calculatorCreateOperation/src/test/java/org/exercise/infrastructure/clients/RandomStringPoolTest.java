@@ -0,0 +1,162 @@
+package org.exercise.infrastructure.clients;
+
+import com.sun.net.httpserver.HttpServer;
+import org.exercise.core.exceptions.BadGatewayException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RandomStringPoolTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private HttpServer server;
+    private final List<String> requestedQueries = new CopyOnWriteArrayList<>();
+    private final AtomicInteger counter = new AtomicInteger();
+    private volatile int status = 200;
+    private RandomStringClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            requestedQueries.add(query);
+            int num = Integer.parseInt(query.substring(4, query.indexOf('&')));
+            StringBuilder body = new StringBuilder();
+            for (int i = 0; i < num; i++) {
+                body.append(String.format("s%07d", counter.incrementAndGet())).append('\n');
+            }
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        client = new RandomStringClient(RandomStringClient.buildHttpClient(Duration.ofSeconds(2)), Duration.ofSeconds(2));
+        setPrivateField(client, "baseUrl", "http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        setPrivateField(client, "len", "8");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void setPrivateField(Object targetObject, String fieldName, Object value) throws Exception {
+        Field field = targetObject.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(targetObject, value);
+    }
+
+    @Test
+    void fetchRandomString_emptyPool_fetchesSynchronouslyAndRefills() {
+        RandomStringPool pool = new RandomStringPool(client, 100, 100, DIRECT);
+
+        String result = pool.fetchRandomString(2);
+
+        assertEquals("s0000101\ns0000102\n", result);
+        assertTrue(requestedQueries.get(0).startsWith("num=100&"));
+        assertTrue(requestedQueries.get(1).startsWith("num=2&"));
+        assertEquals(new RandomStringPool.Stats(0, 1, 1, 0, 100), pool.stats());
+    }
+
+    @Test
+    void fetchRandomString_filledPool_servesWithoutUpstreamCall() {
+        RandomStringPool pool = new RandomStringPool(client, 100, 100, DIRECT);
+        pool.triggerRefill();
+        requestedQueries.clear();
+
+        assertEquals("s0000001\ns0000002\ns0000003\n", pool.fetchRandomString(3));
+        assertEquals("s0000004\n", pool.fetchRandomString(1));
+
+        assertTrue(requestedQueries.isEmpty());
+        assertEquals(new RandomStringPool.Stats(2, 0, 1, 0, 96), pool.stats());
+    }
+
+    @Test
+    void fetchRandomString_belowLowWatermark_refillsInBatches() {
+        RandomStringPool pool = new RandomStringPool(client, 100, 40, DIRECT);
+        pool.triggerRefill();
+        pool.triggerRefill();
+        pool.triggerRefill();
+        assertEquals(2, requestedQueries.size());
+        assertEquals(80, pool.stats().available());
+
+        pool.fetchRandomString(25);
+        assertEquals(2, requestedQueries.size());
+
+        pool.fetchRandomString(10);
+        assertEquals(3, requestedQueries.size());
+        assertTrue(requestedQueries.get(2).startsWith("num=40&"));
+        assertEquals(85, pool.stats().available());
+    }
+
+    @Test
+    void fetchRandomString_requestLargerThanPool_bypassesPool() {
+        RandomStringPool pool = new RandomStringPool(client, 10, 10, DIRECT);
+
+        String result = pool.fetchRandomString(11);
+
+        assertEquals(11, result.lines().count());
+        assertEquals(1, requestedQueries.size());
+        assertEquals(new RandomStringPool.Stats(0, 1, 0, 0, 0), pool.stats());
+    }
+
+    @Test
+    void release_unusedStrings_areServedToTheNextCaller() {
+        RandomStringClient mockClient = mock(RandomStringClient.class);
+        RandomStringPool pool = new RandomStringPool(mockClient, 10, 10, command -> { });
+
+        pool.release("a\nb\n");
+
+        assertEquals(2, pool.stats().available());
+        assertEquals("a\nb\n", pool.fetchRandomString(2));
+        verifyNoInteractions(mockClient);
+    }
+
+    @Test
+    void fetchRandomString_disabledPool_delegatesToClient() {
+        RandomStringClient mockClient = mock(RandomStringClient.class);
+        when(mockClient.fetchRandomString(3)).thenReturn("a\nb\nc\n");
+        RandomStringPool pool = new RandomStringPool(mockClient, 0, 100, DIRECT);
+
+        assertEquals("a\nb\nc\n", pool.fetchRandomString(3));
+        verify(mockClient, never()).fetchRandomStrings(anyInt());
+    }
+
+    @Test
+    void fetchRandomString_upstreamErrorDuringRefill_isNotPooled() {
+        status = 503;
+        RandomStringPool pool = new RandomStringPool(client, 100, 100, DIRECT);
+
+        pool.triggerRefill();
+
+        assertEquals(new RandomStringPool.Stats(0, 0, 0, 1, 0), pool.stats());
+    }
+
+    @Test
+    void fetchRandomStrings_errorStatus_throwsBadGatewayException() {
+        status = 503;
+
+        assertThrows(BadGatewayException.class, () -> client.fetchRandomStrings(5));
+    }
+
+    @Test
+    void intFromEnv_missingVariable_usesDefault() {
+        assertEquals(42, RandomStringPool.intFromEnv("RSCLIENT_UNDEFINED_POOL_SIZE", 42));
+    }
+}
@@ -0,0 +1,99 @@
+package org.exercise.infrastructure.persistence;
+
+import org.exercise.core.entities.Operation;
+import org.exercise.core.enums.OperationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OperationCatalogTest {
+
+    @Mock
+    private OperationRepository operationRepository;
+
+    @InjectMocks
+    private OperationCatalog operationCatalog;
+
+    private Operation addition;
+    private Operation division;
+
+    @BeforeEach
+    void setUp() {
+        addition = new Operation(OperationType.ADDITION, 5);
+        division = new Operation(OperationType.DIVISION, 15);
+    }
+
+    @Test
+    void findByType_loadsCatalogOnceAndServesFromMemory() {
+        when(operationRepository.findAll()).thenReturn(List.of(addition, division));
+
+        operationCatalog.preload();
+
+        assertEquals(Optional.of(addition), operationCatalog.findByType(OperationType.ADDITION));
+        assertEquals(Optional.of(division), operationCatalog.findByType(OperationType.DIVISION));
+        assertEquals(Optional.of(addition), operationCatalog.findByType(OperationType.ADDITION));
+
+        verify(operationRepository, times(1)).findAll();
+        verify(operationRepository, never()).findByType(any());
+        assertEquals(1, operationCatalog.getVersion());
+    }
+
+    @Test
+    void findByType_missingType_fallsBackToRepository() {
+        when(operationRepository.findAll()).thenReturn(List.of(addition));
+        when(operationRepository.findByType(OperationType.SQUARE_ROOT)).thenReturn(Optional.empty());
+
+        Optional<Operation> result = operationCatalog.findByType(OperationType.SQUARE_ROOT);
+
+        assertTrue(result.isEmpty());
+        verify(operationRepository).findByType(OperationType.SQUARE_ROOT);
+    }
+
+    @Test
+    void invalidate_reloadsCatalogAndBumpsVersion() {
+        Operation updatedAddition = new Operation(OperationType.ADDITION, 7);
+        when(operationRepository.findAll())
+                .thenReturn(List.of(addition))
+                .thenReturn(List.of(updatedAddition));
+
+        assertEquals(5, operationCatalog.findByType(OperationType.ADDITION).orElseThrow().getCost());
+
+        operationCatalog.invalidate();
+
+        assertEquals(7, operationCatalog.findByType(OperationType.ADDITION).orElseThrow().getCost());
+        assertEquals(2, operationCatalog.getVersion());
+        verify(operationRepository, times(2)).findAll();
+    }
+
+    @Test
+    void preload_databaseUnavailable_loadsOnFirstUse() {
+        when(operationRepository.findAll())
+                .thenThrow(new IllegalStateException("Connection refused"))
+                .thenReturn(List.of(addition));
+
+        assertDoesNotThrow(() -> operationCatalog.preload());
+        assertEquals(0, operationCatalog.getVersion());
+
+        assertEquals(Optional.of(addition), operationCatalog.findByType(OperationType.ADDITION));
+        assertEquals(1, operationCatalog.getVersion());
+    }
+
+    @Test
+    void parseTtl_invalidValues_useDefault() {
+        assertEquals(300, OperationCatalog.parseTtl(null));
+        assertEquals(300, OperationCatalog.parseTtl(" "));
+        assertEquals(300, OperationCatalog.parseTtl("abc"));
+        assertEquals(0, OperationCatalog.parseTtl("-5"));
+        assertEquals(60, OperationCatalog.parseTtl("60"));
+    }
+}
@@ -0,0 +1,8 @@
+package org.exercise.core.dtos;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record BulkDeleteRequest(List<UUID> ids, ZonedDateTime before) {
+}
@@ -0,0 +1,7 @@
+package org.exercise.core.dtos;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkDeleteResponse(List<UUID> deleted, List<UUID> skipped) {
+}
@@ -0,0 +1,10 @@
+package org.exercise.core.dtos;
+
+public record PurgeReport(long rows, int batches, long elapsedMillis, double rowsPerSecond) {
+
+    public static PurgeReport of(long rows, int batches, long elapsedNanos) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+        return new PurgeReport(rows, batches, elapsedMillis, rowsPerSecond);
+    }
+}
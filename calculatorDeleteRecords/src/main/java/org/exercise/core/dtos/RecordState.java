@@ -0,0 +1,6 @@
+package org.exercise.core.dtos;
+
+import java.util.UUID;
+
+public record RecordState(UUID id, UUID ownerId, Boolean deleted) {
+}
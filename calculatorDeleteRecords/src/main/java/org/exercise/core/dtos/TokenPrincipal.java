@@ -0,0 +1,7 @@
+package org.exercise.core.dtos;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record TokenPrincipal(String subject, Instant expiresAt, Set<String> scopes) {
+}
@@ -35,5 +35,7 @@ public class Record {
     private ZonedDateTime date = ZonedDateTime.now();
 
     private Boolean deleted;
+
+    private ZonedDateTime deletedAt;
 }
 
@@ -0,0 +1,10 @@
+package org.exercise.core.interfaces;
+
+import org.exercise.core.dtos.PurgeReport;
+
+import java.time.Duration;
+
+public interface RecordPurgeService {
+
+    PurgeReport purge(Duration timeBudget);
+}
@@ -1,6 +1,8 @@
 package org.exercise.core.interfaces;
 
 import com.nimbusds.jwt.SignedJWT;
+import org.exercise.core.dtos.BulkDeleteRequest;
+import org.exercise.core.dtos.BulkDeleteResponse;
 import lombok.RequiredArgsConstructor;
 import org.exercise.core.entities.Record;
 import org.exercise.core.exceptions.ForbiddenException;
@@ -16,4 +18,6 @@ import java.util.UUID;
 public interface RecordService {
 
     void deleteRecord(String token, UUID id);
+
+    BulkDeleteResponse deleteRecords(String token, BulkDeleteRequest request);
 }
@@ -0,0 +1,104 @@
+package org.exercise.core.services;
+
+import lombok.RequiredArgsConstructor;
+import org.exercise.core.dtos.PurgeReport;
+import org.exercise.core.exceptions.InternalErrorException;
+import org.exercise.core.interfaces.RecordPurgeService;
+import org.exercise.infrastructure.persistence.RecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class RecordPurgeServiceImpl implements RecordPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordPurgeServiceImpl.class);
+    static final int DEFAULT_RETENTION_DAYS = 90;
+    static final int DEFAULT_BATCH_SIZE = 1000;
+    static final int DEFAULT_PAUSE_MILLIS = 100;
+
+    private final RecordRepository recordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays = intFromEnv("RECORD_PURGE_RETENTION_DAYS", DEFAULT_RETENTION_DAYS, 0);
+    private final int batchSize = intFromEnv("RECORD_PURGE_BATCH_SIZE", DEFAULT_BATCH_SIZE, 1);
+    private final int pauseMillis = intFromEnv("RECORD_PURGE_PAUSE_MILLIS", DEFAULT_PAUSE_MILLIS, 0);
+
+    @Override
+    public PurgeReport purge(Duration timeBudget) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        ZonedDateTime cutoff = now.minusDays(retentionDays);
+        logger.info("Archiving records deleted before {} in batches of {}", cutoff, batchSize);
+
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+        long rows = 0;
+        int batches = 0;
+        while (System.nanoTime() < deadline) {
+            Integer moved = transactionTemplate.execute(status -> purgeBatch(cutoff, now));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            rows += moved;
+            batches++;
+            logger.info("Batch {} archived {} records", batches, moved);
+
+            if (moved < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        PurgeReport report = PurgeReport.of(rows, batches, System.nanoTime() - start);
+        logger.info("Archived {} records in {} batches and {} ms ({} rows/s)",
+                report.rows(), report.batches(), report.elapsedMillis(), String.format("%.1f", report.rowsPerSecond()));
+        return report;
+    }
+
+    int purgeBatch(ZonedDateTime cutoff, ZonedDateTime archivedAt) {
+        List<UUID> ids = recordRepository.findPurgeableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int archived = recordRepository.archiveByIds(ids, archivedAt);
+        int purged = recordRepository.purgeByIds(ids);
+        if (archived != purged) {
+            throw new InternalErrorException("Archived " + archived + " records but purged " + purged);
+        }
+        return purged;
+    }
+
+    private boolean pause() {
+        if (pauseMillis == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static int intFromEnv(String name, int defaultValue, int min) {
+        String value = System.getenv(name);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+
+        try {
+            return Math.max(min, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid {} value: {}, using default", name, value);
+            return defaultValue;
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package org.exercise.core.services;
 
-import com.nimbusds.jwt.SignedJWT;
 import lombok.RequiredArgsConstructor;
-import org.exercise.core.entities.Record;
+import org.exercise.core.dtos.BulkDeleteRequest;
+import org.exercise.core.dtos.BulkDeleteResponse;
+import org.exercise.core.dtos.RecordState;
 import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.NotFoundException;
 import org.exercise.core.interfaces.RecordService;
+import org.exercise.core.interfaces.TokenVerifier;
 import org.exercise.infrastructure.persistence.RecordRepository;
 import org.exercise.core.exceptions.ForbiddenException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -21,38 +29,86 @@ import java.util.UUID;
 public class RecordServiceImpl implements RecordService {
 
     private static final Logger logger = LoggerFactory.getLogger(RecordServiceImpl.class);
+    static final int MAX_BULK_DELETE_IDS = 1000;
     private final RecordRepository recordRepository;
+    private final TokenVerifier tokenVerifier;
 
     @Override
+    @Transactional
     public void deleteRecord(String token, UUID id) {
         logger.info("Attempting to delete record with ID: {}", id);
 
-        Record record = findRecordById(id);
+        UUID userIdFromToken;
+        try {
+            userIdFromToken = getUserIdFromToken(token);
+        } catch (BadRequestException e) {
+            ensureRecordIsNotDeleted(findRecordStateById(id));
+            throw e;
+        }
+
+        logger.info("Marking the record as deleted if it belongs to the user...");
+        if (!recordRepository.softDeleteByIds(userIdFromToken, List.of(id)).isEmpty()) {
+            logger.info("Record with ID: {} successfully marked as deleted", id);
+            return;
+        }
 
-        logger.info("Checking if the record is already marked as deleted...");
-        ensureRecordIsNotDeleted(record);
+        logger.info("No record was updated, checking why...");
+        RecordState state = findRecordStateById(id);
+        ensureRecordIsNotDeleted(state);
+        validateRecordOwnership(state, userIdFromToken);
+
+        logger.warn("Record with ID: {} was deleted concurrently", id);
+        throw new BadRequestException("Record is already marked as deleted");
+    }
+
+    @Override
+    @Transactional
+    public BulkDeleteResponse deleteRecords(String token, BulkDeleteRequest request) {
+        boolean byIds = request != null && request.ids() != null;
+        boolean byDate = request != null && request.before() != null;
+        if (byIds == byDate) {
+            throw new BadRequestException("Provide either a list of record ids or a date to delete records before");
+        }
 
-        logger.info("Verifying ownership of the record...");
         UUID userIdFromToken = getUserIdFromToken(token);
-        validateRecordOwnership(record, userIdFromToken);
 
-        logger.info("Marking the record as deleted...");
-        markRecordAsDeleted(record);
+        if (byDate) {
+            logger.info("Marking records of user: {} created before {} as deleted...", userIdFromToken, request.before());
+            List<UUID> deleted = recordRepository.softDeleteBefore(userIdFromToken, request.before());
+            logger.info("{} records marked as deleted", deleted.size());
+            return new BulkDeleteResponse(deleted, List.of());
+        }
+
+        Set<UUID> ids = new LinkedHashSet<>(request.ids());
+        if (ids.isEmpty() || ids.size() > MAX_BULK_DELETE_IDS || ids.contains(null)) {
+            throw new BadRequestException("A bulk delete must contain between 1 and " + MAX_BULK_DELETE_IDS + " record ids");
+        }
+
+        logger.info("Marking {} records of user: {} as deleted...", ids.size(), userIdFromToken);
+        List<UUID> deleted = recordRepository.softDeleteByIds(userIdFromToken, ids);
 
-        logger.info("Record with ID: {} successfully marked as deleted", id);
+        Set<UUID> deletedIds = new HashSet<>(deleted);
+        List<UUID> skipped = new ArrayList<>();
+        for (UUID id : ids) {
+            if (!deletedIds.contains(id)) {
+                skipped.add(id);
+            }
+        }
+        logger.info("{} records marked as deleted, {} skipped", deleted.size(), skipped.size());
+        return new BulkDeleteResponse(deleted, skipped);
     }
 
-    private Record findRecordById(UUID id) {
-        return recordRepository.findById(id)
+    private RecordState findRecordStateById(UUID id) {
+        return recordRepository.findStateById(id)
                 .orElseThrow(() -> {
                     logger.warn("Record with ID: {} not found in the database", id);
                     return new NotFoundException("Record with ID #" + id + " not found");
                 });
     }
 
-    private void ensureRecordIsNotDeleted(Record record) {
-        if (Boolean.TRUE.equals(record.getDeleted())) {
-            logger.warn("Attempt to delete an already deleted record with ID: {}", record.getId());
+    private void ensureRecordIsNotDeleted(RecordState state) {
+        if (Boolean.TRUE.equals(state.deleted())) {
+            logger.warn("Attempt to delete an already deleted record with ID: {}", state.id());
             throw new BadRequestException("Record is already marked as deleted");
         }
     }
@@ -60,8 +116,7 @@ public class RecordServiceImpl implements RecordService {
     private UUID getUserIdFromToken(String token) {
         try {
             logger.info("Parsing access token to retrieve user ID...");
-            SignedJWT signedJWT = SignedJWT.parse(token);
-            return Optional.ofNullable(signedJWT.getJWTClaimsSet().getStringClaim("sub"))
+            return Optional.ofNullable(tokenVerifier.verify(token).subject())
                     .map(UUID::fromString)
                     .orElseThrow(() -> {
                         logger.warn("Token does not contain a valid user ID");
@@ -73,8 +128,8 @@ public class RecordServiceImpl implements RecordService {
         }
     }
 
-    private void validateRecordOwnership(Record record, UUID userIdFromToken) {
-        UUID recordOwnerId = record.getUser().getId();
+    private void validateRecordOwnership(RecordState state, UUID userIdFromToken) {
+        UUID recordOwnerId = state.ownerId();
 
         if (!userIdFromToken.equals(recordOwnerId)) {
             logger.warn("Unauthorized access attempt: Token user ID: {}, Record owner ID: {}", userIdFromToken, recordOwnerId);
@@ -84,10 +139,4 @@ public class RecordServiceImpl implements RecordService {
             ));
         }
     }
-
-    private void markRecordAsDeleted(Record record) {
-        record.setDeleted(true);
-        recordRepository.save(record);
-        logger.info("Record with ID: {} successfully marked as deleted", record.getId());
-    }
 }
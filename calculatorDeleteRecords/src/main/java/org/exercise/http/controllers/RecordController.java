@@ -1,6 +1,8 @@
 package org.exercise.http.controllers;
 
 import lombok.RequiredArgsConstructor;
+import org.exercise.core.dtos.BulkDeleteRequest;
+import org.exercise.core.dtos.BulkDeleteResponse;
 import org.exercise.core.interfaces.RecordService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,4 +27,10 @@ public class RecordController {
         recordService.deleteRecord(accessToken, id);
         return ResponseEntity.ok(new Response("Record with id #" + id + " deleted successfully!"));
     }
+
+    @DeleteMapping("/records")
+    public ResponseEntity<BulkDeleteResponse> deleteRecords(@RequestHeader String accessToken,
+                                                            @RequestBody BulkDeleteRequest request) {
+        return ResponseEntity.ok(recordService.deleteRecords(accessToken, request));
+    }
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package org.exercise.http.handlers;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.exercise.core.dtos.ResponseTemplate;
+import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.ForbiddenException;
 import org.exercise.core.exceptions.InternalErrorException;
 import org.exercise.core.exceptions.NotFoundException;
+import org.exercise.core.exceptions.UnauthorizedException;
 import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +36,18 @@ public class GlobalExceptionHandler {
         return createErrorResponse(ex, HttpStatus.INTERNAL_SERVER_ERROR, ex.getLocalizedMessage());
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ResponseTemplate> handleBadRequestException(BadRequestException ex) {
+        logError(ex, ex.getLocalizedMessage());
+        return createErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getLocalizedMessage());
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ResponseTemplate> handleUnauthorizedException(UnauthorizedException ex) {
+        logError(ex, ex.getLocalizedMessage());
+        return createErrorResponse(ex, HttpStatus.UNAUTHORIZED, ex.getLocalizedMessage());
+    }
+
     @ExceptionHandler({ForbiddenException.class})
     public ResponseEntity<ResponseTemplate> handleForbiddenException(Exception ex , HttpServletRequest request) {
         logError(ex, ex.getLocalizedMessage());
@@ -0,0 +1,47 @@
+package org.exercise.infrastructure.lambda;
+
+import org.exercise.core.entities.Record;
+import org.exercise.core.interfaces.RecordPurgeService;
+import org.exercise.core.services.RecordPurgeServiceImpl;
+import org.exercise.infrastructure.persistence.RecordRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.error.ErrorMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cloud.function.serverless.web.ServerlessAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Duration;
+
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        ServerlessAutoConfiguration.class,
+        ServletWebServerFactoryAutoConfiguration.class,
+        DispatcherServletAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        ErrorMvcAutoConfiguration.class
+})
+@EntityScan(basePackageClasses = Record.class)
+@EnableJpaRepositories(basePackageClasses = RecordRepository.class)
+@Import(RecordPurgeServiceImpl.class)
+public class RecordPurgeApplication {
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = run(args)) {
+            context.getBean(RecordPurgeService.class).purge(Duration.ofHours(1));
+        }
+    }
+
+    static ConfigurableApplicationContext run(String... args) {
+        return new SpringApplicationBuilder(RecordPurgeApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args);
+    }
+}
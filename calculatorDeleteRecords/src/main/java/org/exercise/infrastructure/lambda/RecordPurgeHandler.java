@@ -0,0 +1,22 @@
+package org.exercise.infrastructure.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import org.exercise.core.dtos.PurgeReport;
+import org.exercise.core.interfaces.RecordPurgeService;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.Map;
+
+public class RecordPurgeHandler implements RequestHandler<Map<String, Object>, PurgeReport> {
+
+    static final long SAFETY_MARGIN_MILLIS = 10_000;
+    private static final ConfigurableApplicationContext context = RecordPurgeApplication.run();
+
+    @Override
+    public PurgeReport handleRequest(Map<String, Object> input, Context lambdaContext) {
+        long budget = Math.max(0, lambdaContext.getRemainingTimeInMillis() - SAFETY_MARGIN_MILLIS);
+        return context.getBean(RecordPurgeService.class).purge(Duration.ofMillis(budget));
+    }
+}
@@ -1,10 +1,58 @@
 package org.exercise.infrastructure.persistence;
 
+import org.exercise.core.dtos.RecordState;
 import org.exercise.core.entities.Record;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface RecordRepository extends JpaRepository<Record, UUID> {
 
+    String SUBTRACT_DELETED_FROM_STATS = ", stats AS (" +
+            "UPDATE tb_record_stats s SET record_count = s.record_count - d.records, total_spent = s.total_spent - d.spent " +
+            "FROM (SELECT o.type, COUNT(*) AS records, SUM(x.amount) AS spent " +
+            "FROM deleted x JOIN tb_operations o ON o.id = x.operation_id GROUP BY o.type) d " +
+            "WHERE s.user_id = :userId AND s.operation_type = d.type) " +
+            "SELECT id FROM deleted";
+
+    @Query(value = "WITH deleted AS (" +
+            "UPDATE tb_records SET deleted = true, deleted_at = CURRENT_TIMESTAMP " +
+            "WHERE user_id = :userId AND id IN (:ids) AND deleted = false " +
+            "RETURNING id, operation_id, amount)" + SUBTRACT_DELETED_FROM_STATS, nativeQuery = true)
+    List<UUID> softDeleteByIds(@Param("userId") UUID userId, @Param("ids") Collection<UUID> ids);
+
+    @Query(value = "WITH deleted AS (" +
+            "UPDATE tb_records SET deleted = true, deleted_at = CURRENT_TIMESTAMP " +
+            "WHERE user_id = :userId AND date < :before AND deleted = false " +
+            "RETURNING id, operation_id, amount)" + SUBTRACT_DELETED_FROM_STATS, nativeQuery = true)
+    List<UUID> softDeleteBefore(@Param("userId") UUID userId, @Param("before") ZonedDateTime before);
+
+    @Query("SELECT new org.exercise.core.dtos.RecordState(r.id, r.user.id, r.deleted) FROM Record r WHERE r.id = :id")
+    Optional<RecordState> findStateById(@Param("id") UUID id);
+
+    @Query("SELECT r.id FROM Record r WHERE r.deleted = true AND r.deletedAt < :before ORDER BY r.deletedAt")
+    List<UUID> findPurgeableIds(@Param("before") ZonedDateTime before, Limit limit);
+
+    default List<UUID> findPurgeableIds(ZonedDateTime before, int limit) {
+        return findPurgeableIds(before, Limit.of(limit));
+    }
+
+    @Modifying
+    @Query(value = "INSERT INTO tb_records_archive " +
+            "(id, operation_id, user_id, amount, user_balance, operation_response, date, deleted_at, archived_at) " +
+            "SELECT id, operation_id, user_id, amount, user_balance, operation_response, date, deleted_at, :archivedAt " +
+            "FROM tb_records WHERE id IN (:ids) AND deleted = true", nativeQuery = true)
+    int archiveByIds(@Param("ids") Collection<UUID> ids, @Param("archivedAt") ZonedDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM tb_records WHERE id IN (:ids) AND deleted = true", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<UUID> ids);
 }
@@ -1,8 +1,13 @@
 package org.exercise;
 
 import org.exercise.Application;
+import org.exercise.infrastructure.lambda.RecordPurgeApplication;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @TestConfiguration
 class ApplicationTest {
@@ -12,4 +17,14 @@ class ApplicationTest {
         System.setProperty("spring.profiles.active", "test");
         Application.main(new String[] {});
     }
-}
\ No newline at end of file
+
+    @Test
+    public void context_doesNotScanThePurgeApplication() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:scan")
+                .run()) {
+            assertTrue(context.getBeansOfType(RecordPurgeApplication.class).isEmpty());
+        }
+    }
+}
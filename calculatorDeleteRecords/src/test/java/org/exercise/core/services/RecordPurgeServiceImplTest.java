@@ -0,0 +1,111 @@
+package org.exercise.core.services;
+
+import org.exercise.core.dtos.PurgeReport;
+import org.exercise.core.exceptions.InternalErrorException;
+import org.exercise.infrastructure.persistence.RecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RecordPurgeServiceImplTest {
+
+    @Mock
+    private RecordRepository recordRepository;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    private RecordPurgeServiceImpl recordPurgeService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        setPrivateField(recordPurgeService, "batchSize", 2);
+        setPrivateField(recordPurgeService, "pauseMillis", 0);
+    }
+
+    @Test
+    void purge_movesBatchesUntilAShortBatch() {
+        List<UUID> full = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> last = List.of(UUID.randomUUID());
+
+        when(recordRepository.findPurgeableIds(any(ZonedDateTime.class), eq(2))).thenReturn(full, full, last);
+        when(recordRepository.archiveByIds(eq(full), any(ZonedDateTime.class))).thenReturn(2);
+        when(recordRepository.purgeByIds(full)).thenReturn(2);
+        when(recordRepository.archiveByIds(eq(last), any(ZonedDateTime.class))).thenReturn(1);
+        when(recordRepository.purgeByIds(last)).thenReturn(1);
+
+        PurgeReport report = recordPurgeService.purge(Duration.ofMinutes(1));
+
+        assertEquals(5, report.rows());
+        assertEquals(3, report.batches());
+        verify(recordRepository, times(3)).findPurgeableIds(any(ZonedDateTime.class), eq(2));
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    void purge_nothingToArchive_stopsAfterOneLookup() {
+        when(recordRepository.findPurgeableIds(any(ZonedDateTime.class), anyInt())).thenReturn(List.of());
+
+        PurgeReport report = recordPurgeService.purge(Duration.ofMinutes(1));
+
+        assertEquals(0, report.rows());
+        assertEquals(0, report.batches());
+        verify(recordRepository, never()).archiveByIds(any(), any());
+        verify(recordRepository, never()).purgeByIds(any());
+    }
+
+    @Test
+    void purge_exhaustedTimeBudget_doesNothing() {
+        PurgeReport report = recordPurgeService.purge(Duration.ZERO);
+
+        assertEquals(0, report.rows());
+        verifyNoInteractions(recordRepository);
+    }
+
+    @Test
+    void purgeBatch_archivedAndPurgedCountsDiffer_throwsInternalError() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+        ZonedDateTime now = ZonedDateTime.now();
+
+        when(recordRepository.findPurgeableIds(now, 2)).thenReturn(ids);
+        when(recordRepository.archiveByIds(ids, now)).thenReturn(2);
+        when(recordRepository.purgeByIds(ids)).thenReturn(1);
+
+        assertThrows(InternalErrorException.class, () -> recordPurgeService.purgeBatch(now, now));
+    }
+
+    @Test
+    void purgeReport_computesRowsPerSecond() {
+        PurgeReport report = PurgeReport.of(500, 1, 2_000_000_000L);
+
+        assertEquals(2000, report.elapsedMillis());
+        assertEquals(250.0, report.rowsPerSecond());
+    }
+
+    @Test
+    void intFromEnv_missingVariable_usesDefault() {
+        assertEquals(7, RecordPurgeServiceImpl.intFromEnv("RECORD_PURGE_UNDEFINED", 7, 0));
+    }
+
+    private void setPrivateField(Object targetObject, String fieldName, Object value) throws Exception {
+        Field field = targetObject.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(targetObject, value);
+    }
+}
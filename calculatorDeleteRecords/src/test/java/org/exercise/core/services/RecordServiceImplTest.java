@@ -2,21 +2,29 @@ package org.exercise.core.services;
 
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import org.exercise.core.entities.Record;
-import org.exercise.core.entities.User;
+import org.exercise.core.dtos.BulkDeleteRequest;
+import org.exercise.core.dtos.BulkDeleteResponse;
+import org.exercise.core.dtos.RecordState;
 import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.ForbiddenException;
 import org.exercise.core.exceptions.NotFoundException;
+import org.exercise.core.interfaces.TokenVerifier;
 import org.exercise.infrastructure.persistence.RecordRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,12 +36,15 @@ class RecordServiceImplTest {
     @Mock
     private RecordRepository recordRepository;
 
+    @Spy
+    private TokenVerifier tokenVerifier = new TokenVerifierImpl(null, null, false, Clock.systemUTC());
+
     @InjectMocks
     private RecordServiceImpl recordService;
 
     private UUID recordId;
     private UUID userId;
-    private Record recordObject;
+    private RecordState recordState;
     private String validToken;
     private String invalidToken;
 
@@ -43,13 +54,7 @@ class RecordServiceImplTest {
         recordId = UUID.randomUUID();
         userId = UUID.randomUUID();
 
-        User user = new User();
-        user.setId(userId);
-
-        recordObject = new Record();
-        recordObject.setId(recordId);
-        recordObject.setUser(user);
-        recordObject.setDeleted(false);
+        recordState = new RecordState(recordId, userId, false);
 
         validToken = "valid.jwt.token";
         invalidToken = "invalid.token";
@@ -57,95 +62,84 @@ class RecordServiceImplTest {
 
     @Test
     void testDeleteRecord_Success() throws Exception {
-        when(recordRepository.findById(recordId)).thenReturn(Optional.of(recordObject));
+        when(recordRepository.softDeleteByIds(userId, List.of(recordId))).thenReturn(List.of(recordId));
 
-        SignedJWT signedJWT = mock(SignedJWT.class);
-        JWTClaimsSet jwtClaimsSet = mock(JWTClaimsSet.class);
         try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
-            mockedJWT.when(() -> SignedJWT.parse(validToken)).thenReturn(signedJWT);
-
-            when(signedJWT.getJWTClaimsSet()).thenReturn(jwtClaimsSet);
-            when(jwtClaimsSet.getStringClaim("sub")).thenReturn(userId.toString());
+            stubToken(mockedJWT);
 
             recordService.deleteRecord(validToken, recordId);
 
-            ArgumentCaptor<Record> captor = ArgumentCaptor.forClass(Record.class);
-            verify(recordRepository).save(captor.capture());
-            Record savedRecord = captor.getValue();
-
-            assertTrue(savedRecord.getDeleted());
-            verify(recordRepository).findById(recordId);
-            verify(recordRepository).save(recordObject);
+            verify(recordRepository).softDeleteByIds(userId, List.of(recordId));
+            verify(recordRepository, never()).findStateById(any());
+            verify(recordRepository, never()).findById(any());
+            verify(recordRepository, never()).save(any());
         }
     }
 
-
     @Test
-    void testDeleteRecord_RecordNotFound() {
-        when(recordRepository.findById(recordId)).thenReturn(Optional.empty());
+    void testDeleteRecord_RecordNotFound() throws Exception {
+        when(recordRepository.softDeleteByIds(userId, List.of(recordId))).thenReturn(List.of());
+        when(recordRepository.findStateById(recordId)).thenReturn(Optional.empty());
 
-        NotFoundException exception = assertThrows(
-                NotFoundException.class,
-                () -> recordService.deleteRecord(validToken, recordId)
-        );
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT);
 
-        assertEquals("Record with ID #" + recordId + " not found", exception.getMessage());
-        verify(recordRepository).findById(recordId);
-        verify(recordRepository, never()).save(any());
+            NotFoundException exception = assertThrows(
+                    NotFoundException.class,
+                    () -> recordService.deleteRecord(validToken, recordId)
+            );
+
+            assertEquals("Record with ID #" + recordId + " not found", exception.getMessage());
+            verify(recordRepository).findStateById(recordId);
+        }
     }
 
     @Test
-    void testDeleteRecord_RecordAlreadyDeleted() {
-        recordObject.setDeleted(true);
-        when(recordRepository.findById(recordId)).thenReturn(Optional.of(recordObject));
+    void testDeleteRecord_RecordAlreadyDeleted() throws Exception {
+        when(recordRepository.softDeleteByIds(userId, List.of(recordId))).thenReturn(List.of());
+        when(recordRepository.findStateById(recordId)).thenReturn(Optional.of(new RecordState(recordId, userId, true)));
 
-        BadRequestException exception = assertThrows(
-                BadRequestException.class,
-                () -> recordService.deleteRecord(validToken, recordId)
-        );
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT);
 
-        assertEquals("Record is already marked as deleted", exception.getMessage());
-        verify(recordRepository).findById(recordId);
-        verify(recordRepository, never()).save(any());
+            BadRequestException exception = assertThrows(
+                    BadRequestException.class,
+                    () -> recordService.deleteRecord(validToken, recordId)
+            );
+
+            assertEquals("Record is already marked as deleted", exception.getMessage());
+        }
     }
 
     @Test
     void testDeleteRecord_RecordNotOwnedByUser() throws Exception {
         UUID anotherUserId = UUID.randomUUID();
-        recordObject.getUser().setId(anotherUserId);
-        when(recordRepository.findById(recordId)).thenReturn(Optional.of(recordObject));
+        when(recordRepository.softDeleteByIds(userId, List.of(recordId))).thenReturn(List.of());
+        when(recordRepository.findStateById(recordId))
+                .thenReturn(Optional.of(new RecordState(recordId, anotherUserId, false)));
 
-        SignedJWT signedJWT = mock(SignedJWT.class);
-        JWTClaimsSet jwtClaimsSet = mock(JWTClaimsSet.class);
         try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
-            mockedJWT.when(() -> SignedJWT.parse(validToken)).thenReturn(signedJWT);
-
-            when(signedJWT.getJWTClaimsSet()).thenReturn(jwtClaimsSet);
-            when(jwtClaimsSet.getStringClaim("sub")).thenReturn(userId.toString());
+            stubToken(mockedJWT);
 
             ForbiddenException exception = assertThrows(ForbiddenException.class,
                     () -> recordService.deleteRecord(validToken, recordId));
 
             assertEquals(String.format("Unauthorized access: Record does not belong to the user. Token user ID: %s, Record owner ID: %s",
                             userId, anotherUserId), exception.getMessage());
-
-            verify(recordRepository).findById(recordId);
-            verify(recordRepository, never()).save(any());
         }
     }
 
-
     @Test
     void testDeleteRecord_InvalidToken() {
-        when(recordRepository.findById(recordId)).thenReturn(Optional.of(recordObject));
+        when(recordRepository.findStateById(recordId)).thenReturn(Optional.of(recordState));
 
         assertThrows(
                 BadRequestException.class,
                 () -> recordService.deleteRecord(invalidToken, recordId)
         );
 
-        verify(recordRepository).findById(recordId);
-        verify(recordRepository, never()).save(any());
+        verify(recordRepository).findStateById(recordId);
+        verify(recordRepository, never()).softDeleteByIds(any(), any());
     }
 
     @Test
@@ -155,4 +149,73 @@ class RecordServiceImplTest {
                 () -> recordService.deleteRecord(invalidToken, recordId)
         );
     }
+
+    @Test
+    void testDeleteRecords_ByIdsReportsSkippedIds() throws Exception {
+        UUID missingId = UUID.randomUUID();
+        when(recordRepository.softDeleteByIds(eq(userId), anyCollection())).thenReturn(List.of(recordId));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT);
+
+            BulkDeleteResponse response = recordService.deleteRecords(validToken,
+                    new BulkDeleteRequest(List.of(recordId, missingId, recordId), null));
+
+            assertEquals(List.of(recordId), response.deleted());
+            assertEquals(List.of(missingId), response.skipped());
+            verify(recordRepository).softDeleteByIds(userId, Set.of(recordId, missingId));
+            verify(recordRepository, never()).findById(any());
+            verify(recordRepository, never()).save(any());
+        }
+    }
+
+    @Test
+    void testDeleteRecords_BeforeDate() throws Exception {
+        ZonedDateTime before = ZonedDateTime.parse("2024-11-01T00:00:00Z");
+        when(recordRepository.softDeleteBefore(userId, before)).thenReturn(List.of(recordId));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT);
+
+            BulkDeleteResponse response = recordService.deleteRecords(validToken, new BulkDeleteRequest(null, before));
+
+            assertEquals(List.of(recordId), response.deleted());
+            assertTrue(response.skipped().isEmpty());
+            verify(recordRepository, never()).softDeleteByIds(any(), any());
+        }
+    }
+
+    @Test
+    void testDeleteRecords_RequiresExactlyOneMode() {
+        assertThrows(BadRequestException.class, () -> recordService.deleteRecords(validToken, null));
+        assertThrows(BadRequestException.class,
+                () -> recordService.deleteRecords(validToken, new BulkDeleteRequest(null, null)));
+        assertThrows(BadRequestException.class, () -> recordService.deleteRecords(validToken,
+                new BulkDeleteRequest(List.of(recordId), ZonedDateTime.now())));
+        verifyNoInteractions(recordRepository);
+    }
+
+    @Test
+    void testDeleteRecords_RejectsEmptyOrOversizedIdList() throws Exception {
+        List<UUID> tooMany = Stream.generate(UUID::randomUUID).limit(RecordServiceImpl.MAX_BULK_DELETE_IDS + 1).toList();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT);
+
+            assertThrows(BadRequestException.class,
+                    () -> recordService.deleteRecords(validToken, new BulkDeleteRequest(List.of(), null)));
+            assertThrows(BadRequestException.class,
+                    () -> recordService.deleteRecords(validToken, new BulkDeleteRequest(tooMany, null)));
+            verify(recordRepository, never()).softDeleteByIds(any(), any());
+        }
+    }
+
+    private void stubToken(MockedStatic<SignedJWT> mockedJWT) throws ParseException {
+        SignedJWT signedJWT = mock(SignedJWT.class);
+        JWTClaimsSet jwtClaimsSet = mock(JWTClaimsSet.class);
+
+        mockedJWT.when(() -> SignedJWT.parse(validToken)).thenReturn(signedJWT);
+        when(signedJWT.getJWTClaimsSet()).thenReturn(jwtClaimsSet);
+        when(jwtClaimsSet.getStringClaim("sub")).thenReturn(userId.toString());
+    }
 }
@@ -1,5 +1,7 @@
 package org.exercise.http.controllers;
 
+import org.exercise.core.dtos.BulkDeleteRequest;
+import org.exercise.core.dtos.BulkDeleteResponse;
 import org.exercise.core.interfaces.RecordService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -56,4 +59,20 @@ class RecordControllerTest {
         assertEquals("Record with id #" + recordId + " deleted successfully!", response.getBody().message());
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
+
+    @Test
+    void testDeleteRecords() {
+        String accessToken = "mockAccessToken";
+        UUID recordId = UUID.randomUUID();
+        BulkDeleteRequest request = new BulkDeleteRequest(List.of(recordId), null);
+        BulkDeleteResponse expected = new BulkDeleteResponse(List.of(recordId), List.of());
+
+        when(recordService.deleteRecords(accessToken, request)).thenReturn(expected);
+
+        ResponseEntity<BulkDeleteResponse> response = recordController.deleteRecords(accessToken, request);
+
+        verify(recordService).deleteRecords(accessToken, request);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, response.getBody());
+    }
 }
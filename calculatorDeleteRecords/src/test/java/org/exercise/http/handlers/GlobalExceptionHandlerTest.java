@@ -3,9 +3,11 @@ package org.exercise.http.handlers;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.exercise.core.dtos.ResponseTemplate;
+import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.ForbiddenException;
 import org.exercise.core.exceptions.InternalErrorException;
 import org.exercise.core.exceptions.NotFoundException;
+import org.exercise.core.exceptions.UnauthorizedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -40,6 +42,22 @@ class GlobalExceptionHandlerTest {
         assertEquals("Internal error", response.getBody().message());
     }
 
+    @Test
+    void handleBadRequestException_shouldReturnBadRequest() {
+        BadRequestException ex = new BadRequestException("Record is already marked as deleted");
+        ResponseEntity<ResponseTemplate> response = exceptionHandler.handleBadRequestException(ex);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Record is already marked as deleted", response.getBody().message());
+    }
+
+    @Test
+    void handleUnauthorizedException_shouldReturnUnauthorized() {
+        UnauthorizedException ex = new UnauthorizedException("Token has expired");
+        ResponseEntity<ResponseTemplate> response = exceptionHandler.handleUnauthorizedException(ex);
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Token has expired", response.getBody().message());
+    }
+
     @Test
     void handleForbiddenException_shouldReturnForbidden() {
         HttpServletRequest request = mock(HttpServletRequest.class);
@@ -0,0 +1,120 @@
+package org.exercise.infrastructure.clients;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class JwksStandIn implements AutoCloseable {
+
+    public static final String ISSUER = "https://cognito-idp.us-east-1.amazonaws.com/us-east-1_standin";
+    public static final String KEY_ID = "standin-key-1";
+
+    private final HttpServer server;
+    private final Map<String, RSAKey> publishedKeys = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private JwksStandIn() throws IOException, JOSEException {
+        publish(KEY_ID);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/.well-known/jwks.json", this::serveJwks);
+        server.start();
+    }
+
+    public static JwksStandIn start() {
+        try {
+            return new JwksStandIn();
+        } catch (IOException | JOSEException e) {
+            throw new IllegalStateException("Could not start JWKS stand-in", e);
+        }
+    }
+
+    public URI jwksUri() {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/.well-known/jwks.json");
+    }
+
+    public int requests() {
+        return requests.get();
+    }
+
+    public RSAKey publish(String keyId) throws JOSEException {
+        RSAKey key = generateKey(keyId);
+        publishedKeys.put(keyId, key);
+        return key;
+    }
+
+    public String token(UUID subject) {
+        return token(publishedKeys.get(KEY_ID), subject, ISSUER, "access", Instant.now().plus(Duration.ofHours(1)));
+    }
+
+    public String token(String keyId, UUID subject) {
+        return token(publishedKeys.get(keyId), subject, ISSUER, "access", Instant.now().plus(Duration.ofHours(1)));
+    }
+
+    public String token(UUID subject, String issuer, String tokenUse, Instant expiresAt) {
+        return token(publishedKeys.get(KEY_ID), subject, issuer, tokenUse, expiresAt);
+    }
+
+    public static String token(RSAKey key, UUID subject, String issuer, String tokenUse, Instant expiresAt) {
+        try {
+            SignedJWT signedJWT = new SignedJWT(
+                    new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                    new JWTClaimsSet.Builder()
+                            .subject(subject.toString())
+                            .issuer(issuer)
+                            .claim("token_use", tokenUse)
+                            .claim("scope", "aws.cognito.signin.user.admin")
+                            .issueTime(new Date())
+                            .expirationTime(Date.from(expiresAt))
+                            .build());
+            signedJWT.sign(new RSASSASigner(key));
+            return signedJWT.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign test token", e);
+        }
+    }
+
+    public static RSAKey generateKey(String keyId) throws JOSEException {
+        return new RSAKeyGenerator(2048).keyID(keyId).keyUse(KeyUse.SIGNATURE).algorithm(JWSAlgorithm.RS256).generate();
+    }
+
+    private void serveJwks(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        List<JWK> keys = publishedKeys.values().stream().map(key -> (JWK) key.toPublicJWK()).toList();
+        byte[] body = new JWKSet(keys).toString(true).getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,101 @@
+package org.exercise.infrastructure.lambda;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.exercise.core.dtos.PurgeReport;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.entities.Record;
+import org.exercise.core.entities.User;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.interfaces.RecordPurgeService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecordPurgeApplicationTest {
+
+    private static ConfigurableApplicationContext context;
+    private static EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void setUp() {
+        context = RecordPurgeApplication.run("--spring.profiles.active=test",
+                "--spring.datasource.url=jdbc:h2:mem:purge");
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        entityManager.createNativeQuery("CREATE TABLE tb_records_archive (" +
+                "id UUID NOT NULL PRIMARY KEY, operation_id UUID NOT NULL, user_id UUID NOT NULL, " +
+                "amount INTEGER NOT NULL, user_balance INTEGER NOT NULL, operation_response TEXT NOT NULL, " +
+                "date TIMESTAMP(6) WITH TIME ZONE NOT NULL, deleted_at TIMESTAMP(6) WITH TIME ZONE, " +
+                "archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL)").executeUpdate();
+
+        User user = new User(UUID.randomUUID(), "user@mail.com", "password", "user@mail.com", true, null);
+        entityManager.persist(user);
+
+        Operation operation = new Operation();
+        operation.setId(UUID.randomUUID());
+        operation.setType(OperationType.ADDITION);
+        operation.setCost(5);
+        entityManager.persist(operation);
+
+        ZonedDateTime old = ZonedDateTime.now().minusDays(200);
+        ZonedDateTime recent = ZonedDateTime.now().minusDays(1);
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(record(user, operation, old.plusMinutes(i), old.plusDays(1)));
+        }
+        entityManager.persist(record(user, operation, old, null));
+        entityManager.persist(record(user, operation, recent, recent));
+        entityManager.persist(record(user, operation, old, recent));
+
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void purge_movesRecordsDeletedBeforeTheRetentionWindowToTheArchive() {
+        PurgeReport report = context.getBean(RecordPurgeService.class).purge(Duration.ofMinutes(1));
+
+        assertEquals(5, report.rows());
+        assertEquals(1, report.batches());
+        assertEquals(3L, count("SELECT COUNT(*) FROM tb_records"));
+        assertEquals(5L, count("SELECT COUNT(*) FROM tb_records_archive WHERE deleted_at IS NOT NULL"));
+    }
+
+    private static long count(String query) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return ((Number) entityManager.createNativeQuery(query).getSingleResult()).longValue();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static Record record(User user, Operation operation, ZonedDateTime date, ZonedDateTime deletedAt) {
+        Record record = new Record();
+        record.setId(UUID.randomUUID());
+        record.setUser(user);
+        record.setOperation(operation);
+        record.setAmount(5);
+        record.setUserBalance(95);
+        record.setOperationResponse("10");
+        record.setDate(date);
+        record.setDeleted(deletedAt != null);
+        record.setDeletedAt(deletedAt);
+        return record;
+    }
+}
@@ -1,5 +1,6 @@
 package org.exercise.core.interfaces;
 
+import org.exercise.core.dtos.OperationCatalog;
 import org.exercise.core.entities.Operation;
 import org.springframework.stereotype.Service;
 
@@ -10,4 +11,6 @@ public interface OperationService {
 
     public List<Operation> getOperations();
 
+    public OperationCatalog getOperationCatalog();
+
 }
@@ -0,0 +1,11 @@
+package org.exercise.core.interfaces;
+
+import org.exercise.core.entities.Operation;
+
+import java.util.List;
+
+public interface OperationSource {
+
+    List<Operation> findAll();
+
+}
@@ -1,13 +1,22 @@
 package org.exercise.core.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.exercise.core.dtos.OperationCatalog;
 import org.exercise.core.entities.Operation;
+import org.exercise.core.exceptions.InternalErrorException;
 import org.exercise.core.interfaces.OperationService;
-import org.exercise.infrastructure.persistence.OperationRepository;
+import org.exercise.core.interfaces.OperationSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -15,13 +24,83 @@ import java.util.List;
 public class OperationServiceImpl implements OperationService {
 
     private static final Logger logger = LoggerFactory.getLogger(OperationServiceImpl.class);
-    private final OperationRepository operationRepository;
+    private static final long DEFAULT_MAX_AGE_SECONDS = 300;
+
+    private final OperationSource operationSource;
+    private final ObjectMapper objectMapper;
+    private final String catalogVersion = System.getenv("OPERATIONS_CATALOG_VERSION");
+    private final long maxAgeSeconds = parseMaxAge(System.getenv("OPERATIONS_CACHE_MAX_AGE_SECONDS"));
+    private volatile OperationCatalog catalog;
+
+    @PostConstruct
+    void preload() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            logger.warn("Could not preload operation catalog, it will be loaded on first use: {}", e.getMessage());
+        }
+    }
 
     @Override
     public List<Operation> getOperations() {
         logger.info("Retrieving operation list...");
-        List<Operation> operations = operationRepository.findAll();
+        List<Operation> operations = operationSource.findAll();
         logger.info("List returned successfully");
         return operations;
     }
+
+    @Override
+    public OperationCatalog getOperationCatalog() {
+        OperationCatalog current = catalog;
+        return current != null ? current : refresh();
+    }
+
+    synchronized OperationCatalog refresh() {
+        if (catalog == null) {
+            catalog = build();
+        }
+        return catalog;
+    }
+
+    OperationCatalog build() {
+        List<Operation> operations = getOperations().stream()
+                .sorted(Comparator.comparing(Operation::getType, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(operations);
+        } catch (JsonProcessingException e) {
+            throw new InternalErrorException("Could not serialize operation list: " + e.getOriginalMessage());
+        }
+
+        OperationCatalog built = new OperationCatalog(body, etag(body), maxAgeSeconds);
+        logger.info("Operation catalog serialized: {} operations, {} bytes, ETag {}", operations.size(), body.length, built.etag());
+
+        return built;
+    }
+
+    String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            String hash = Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22);
+            String version = catalogVersion == null || catalogVersion.isBlank() ? "" : catalogVersion.trim() + "-";
+            return "\"" + version + hash + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new InternalErrorException("SHA-256 is not available");
+        }
+    }
+
+    static long parseMaxAge(String maxAge) {
+        if (maxAge == null || maxAge.isBlank()) {
+            return DEFAULT_MAX_AGE_SECONDS;
+        }
+
+        try {
+            return Math.max(0, Long.parseLong(maxAge.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid OPERATIONS_CACHE_MAX_AGE_SECONDS value: {}, using default", maxAge);
+            return DEFAULT_MAX_AGE_SECONDS;
+        }
+    }
 }
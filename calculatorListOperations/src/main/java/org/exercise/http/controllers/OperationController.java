@@ -1,14 +1,19 @@
 package org.exercise.http.controllers;
 
 import lombok.RequiredArgsConstructor;
-import org.exercise.core.entities.Operation;
+import org.exercise.core.dtos.OperationCatalog;
 import org.exercise.core.interfaces.OperationService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -23,8 +28,22 @@ public class OperationController {
     }
 
     @GetMapping("/operations")
-    public ResponseEntity<List<Operation>> getOperations() {
-        List<Operation> operations = operationService.getOperations();
-        return ResponseEntity.ok(operations);
+    public ResponseEntity<byte[]> getOperations(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        OperationCatalog catalog = operationService.getOperationCatalog();
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(catalog.maxAgeSeconds())).cachePublic();
+
+        if (catalog.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(catalog.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(catalog.etag())
+                .cacheControl(cacheControl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.body());
     }
 }
@@ -0,0 +1,22 @@
+package org.exercise.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.interfaces.OperationSource;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Profile("!" + StaticOperationSource.PROFILE)
+@RequiredArgsConstructor
+public class JpaOperationSource implements OperationSource {
+
+    private final OperationRepository operationRepository;
+
+    @Override
+    public List<Operation> findAll() {
+        return operationRepository.findAll();
+    }
+}
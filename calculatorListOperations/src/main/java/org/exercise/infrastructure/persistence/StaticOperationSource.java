@@ -0,0 +1,58 @@
+package org.exercise.infrastructure.persistence;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.exceptions.InternalErrorException;
+import org.exercise.core.interfaces.OperationSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Component
+@Profile(StaticOperationSource.PROFILE)
+public class StaticOperationSource implements OperationSource {
+
+    public static final String PROFILE = "static-catalog";
+    public static final String LOCATION_PROPERTY = "OPERATIONS_CATALOG_RESOURCE";
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticOperationSource.class);
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+
+    public StaticOperationSource(ResourceLoader resourceLoader, ObjectMapper objectMapper, Environment environment) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = requireLocation(environment.getProperty(LOCATION_PROPERTY));
+    }
+
+    @Override
+    public List<Operation> findAll() {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream inputStream = resource.getInputStream()) {
+            List<Operation> operations = objectMapper.readValue(inputStream, new TypeReference<>() {});
+            logger.info("Operation catalog read from {}", location);
+            return operations;
+        } catch (IOException e) {
+            throw new InternalErrorException("Could not read operation catalog from " + location + ": " + e.getMessage());
+        }
+    }
+
+    static String requireLocation(String location) {
+        if (location == null || location.isBlank()) {
+            throw new IllegalStateException(LOCATION_PROPERTY + " must point to a catalog exported from tb_operations "
+                    + "when the " + PROFILE + " profile is active");
+        }
+        return location.trim();
+    }
+}
@@ -0,0 +1,56 @@
+package org.exercise;
+
+import org.exercise.core.dtos.OperationCatalog;
+import org.exercise.core.interfaces.OperationService;
+import org.exercise.infrastructure.persistence.StaticOperationSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgs = "-Xmx512m")
+public class StartupBenchmark {
+
+    private static final String CATALOG = "classpath:catalog/operations.json";
+
+    @Param({"test", StaticOperationSource.PROFILE})
+    public String profile;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+
+        public long heapUsedMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            heapUsedMb = 0;
+        }
+    }
+
+    @Benchmark
+    public OperationCatalog coldStart(Heap heap) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .profiles(profile)
+                .properties(StaticOperationSource.LOCATION_PROPERTY + "=" + CATALOG)
+                .run()) {
+            OperationCatalog catalog = context.getBean(OperationService.class).getOperationCatalog();
+            Runtime runtime = Runtime.getRuntime();
+            heap.heapUsedMb = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+            return catalog;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StartupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
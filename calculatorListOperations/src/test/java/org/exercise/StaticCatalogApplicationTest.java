@@ -0,0 +1,49 @@
+package org.exercise;
+
+import org.exercise.core.dtos.OperationCatalog;
+import org.exercise.core.interfaces.OperationService;
+import org.exercise.core.interfaces.OperationSource;
+import org.exercise.infrastructure.persistence.StaticOperationSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticCatalogApplicationTest {
+
+    private static final String CATALOG = "classpath:catalog/operations.json";
+
+    @Test
+    void staticCatalogProfile_startsWithoutDataSource() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .profiles(StaticOperationSource.PROFILE)
+                .properties(StaticOperationSource.LOCATION_PROPERTY + "=" + CATALOG)
+                .run()) {
+            OperationCatalog catalog = context.getBean(OperationService.class).getOperationCatalog();
+
+            assertEquals(0, context.getBeanNamesForType(DataSource.class).length);
+            assertTrue(catalog.body().length > 0);
+            assertInstanceOf(StaticOperationSource.class, context.getBean(OperationSource.class));
+        }
+    }
+
+    @Test
+    void staticCatalogProfile_withoutCatalogLocation_failsToStart() {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(Application.class)
+                .profiles(StaticOperationSource.PROFILE);
+
+        Exception exception = assertThrows(Exception.class, () -> builder.run());
+
+        assertInstanceOf(IllegalStateException.class, rootCause(exception));
+    }
+
+    private Throwable rootCause(Throwable throwable) {
+        while (throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+}
@@ -1,23 +1,32 @@
 package org.exercise.core.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.exercise.core.dtos.OperationCatalog;
 import org.exercise.core.entities.Operation;
-import org.exercise.infrastructure.persistence.OperationRepository;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.interfaces.OperationSource;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class OperationServiceImplTest {
 
     @Mock
-    private OperationRepository operationRepository;
+    private OperationSource operationSource;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks
     private OperationServiceImpl operationService;
@@ -33,7 +42,7 @@ class OperationServiceImplTest {
         Operation operation1 = new Operation(); // Customize this object as necessary
         Operation operation2 = new Operation(); // Customize this object as necessary
         List<Operation> mockOperations = Arrays.asList(operation1, operation2);
-        when(operationRepository.findAll()).thenReturn(mockOperations);
+        when(operationSource.findAll()).thenReturn(mockOperations);
 
         // Act
         List<Operation> result = operationService.getOperations();
@@ -41,6 +50,74 @@ class OperationServiceImplTest {
         // Assert
         assertEquals(2, result.size());
         assertEquals(mockOperations, result);
-        verify(operationRepository, times(1)).findAll();
+        verify(operationSource, times(1)).findAll();
+    }
+
+    @Test
+    void getOperationCatalog_serializesOnceSortedByType() {
+        Operation division = operation(OperationType.DIVISION);
+        Operation addition = operation(OperationType.ADDITION);
+        when(operationSource.findAll()).thenReturn(List.of(division, addition));
+
+        OperationCatalog first = operationService.getOperationCatalog();
+        OperationCatalog second = operationService.getOperationCatalog();
+
+        String json = new String(first.body(), StandardCharsets.UTF_8);
+        assertSame(first, second);
+        assertTrue(json.indexOf("ADDITION") < json.indexOf("DIVISION"));
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+        assertEquals(300, first.maxAgeSeconds());
+        verify(operationSource, times(1)).findAll();
+    }
+
+    @Test
+    void getOperationCatalog_sameOperationsInAnyOrder_sameEtag() {
+        Operation division = operation(OperationType.DIVISION);
+        Operation addition = operation(OperationType.ADDITION);
+        when(operationSource.findAll()).thenReturn(List.of(division, addition), List.of(addition, division));
+
+        String etag = operationService.build().etag();
+
+        assertEquals(etag, operationService.build().etag());
+        verify(operationSource, times(2)).findAll();
+    }
+
+    @Test
+    void getOperationCatalog_changedCost_changesEtag() {
+        Operation addition = operation(OperationType.ADDITION);
+        when(operationSource.findAll()).thenReturn(List.of(addition));
+
+        String etag = operationService.build().etag();
+        addition.setCost(10);
+
+        assertNotEquals(etag, operationService.build().etag());
+    }
+
+    @Test
+    void preload_databaseUnavailable_loadsOnFirstUse() {
+        when(operationSource.findAll())
+                .thenThrow(new RuntimeException("Connection refused"))
+                .thenReturn(List.of(operation(OperationType.ADDITION)));
+
+        operationService.preload();
+
+        assertNotNull(operationService.getOperationCatalog());
+        verify(operationSource, times(2)).findAll();
+    }
+
+    @Test
+    void parseMaxAge_invalidValues_useDefault() {
+        assertEquals(300, OperationServiceImpl.parseMaxAge(null));
+        assertEquals(300, OperationServiceImpl.parseMaxAge("abc"));
+        assertEquals(0, OperationServiceImpl.parseMaxAge("-5"));
+        assertEquals(60, OperationServiceImpl.parseMaxAge("60"));
+    }
+
+    private Operation operation(OperationType type) {
+        Operation operation = new Operation();
+        operation.setId(UUID.randomUUID());
+        operation.setType(type);
+        operation.setCost(5);
+        return operation;
     }
 }
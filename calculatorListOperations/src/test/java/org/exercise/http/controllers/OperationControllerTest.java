@@ -1,18 +1,17 @@
 package org.exercise.http.controllers;
 
-import org.exercise.core.entities.Operation;
+import org.exercise.core.dtos.OperationCatalog;
 import org.exercise.core.interfaces.OperationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
-import java.util.Arrays;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -41,20 +40,41 @@ class OperationControllerTest {
 
     @Test
     void testGetOperations() {
-        Operation operation1 = new Operation(); // Customize as needed
-        Operation operation2 = new Operation(); // Customize as needed
-        List<Operation> mockOperations = Arrays.asList(operation1, operation2);
-        when(operationService.getOperations()).thenReturn(mockOperations);
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        when(operationService.getOperationCatalog()).thenReturn(new OperationCatalog(body, "\"abc\"", 300));
 
-        ResponseEntity<List<Operation>> response = operationController.getOperations();
+        ResponseEntity<byte[]> response = operationController.getOperations(null);
 
-        assertNotNull(response);
-        assertNotNull(response.getBody());
-        assertEquals(2, response.getBody().size());
-        assertEquals(mockOperations, response.getBody());
         assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(body, response.getBody());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+        assertEquals("max-age=300, public", response.getHeaders().getCacheControl());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+
+        verify(operationService, times(1)).getOperationCatalog();
+    }
+
+    @Test
+    void testGetOperations_matchingEtag_returnsNotModified() {
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        when(operationService.getOperationCatalog()).thenReturn(new OperationCatalog(body, "\"abc\"", 300));
+
+        ResponseEntity<byte[]> response = operationController.getOperations("\"old\", W/\"abc\"");
 
-        verify(operationService, times(1)).getOperations();
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("\"abc\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void testGetOperations_staleEtag_returnsBody() {
+        byte[] body = "[]".getBytes(StandardCharsets.UTF_8);
+        when(operationService.getOperationCatalog()).thenReturn(new OperationCatalog(body, "\"abc\"", 300));
+
+        ResponseEntity<byte[]> response = operationController.getOperations("\"old\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(body, response.getBody());
     }
 
 }
@@ -0,0 +1,62 @@
+package org.exercise.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.exceptions.InternalErrorException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticOperationSourceTest {
+
+    private final StaticOperationSource operationSource = operationSource("classpath:catalog/operations.json");
+
+    @Test
+    void findAll_catalog_hasEveryOperationType() {
+        List<Operation> operations = operationSource.findAll();
+
+        assertEquals(EnumSet.allOf(OperationType.class),
+                operations.stream().map(Operation::getType).collect(Collectors.toCollection(() -> EnumSet.noneOf(OperationType.class))));
+        assertEquals(OperationType.values().length, operations.size());
+        operations.forEach(operation -> {
+            assertNotNull(operation.getId());
+            assertNotNull(operation.getCost());
+        });
+    }
+
+    @Test
+    void findAll_missingResource_throwsInternalError() {
+        StaticOperationSource missing = operationSource("classpath:catalog/missing.json");
+
+        assertThrows(InternalErrorException.class, missing::findAll);
+    }
+
+    @Test
+    void constructor_withoutLocation_failsFast() {
+        assertThrows(IllegalStateException.class, () -> operationSource(null));
+        assertThrows(IllegalStateException.class, () -> operationSource(" "));
+    }
+
+    @Test
+    void requireLocation_trimsTheLocation() {
+        assertEquals("file:/opt/catalog.json", StaticOperationSource.requireLocation(" file:/opt/catalog.json "));
+    }
+
+    private StaticOperationSource operationSource(String location) {
+        StandardEnvironment environment = new StandardEnvironment();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(StaticOperationSource.LOCATION_PROPERTY, location);
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        return new StaticOperationSource(new DefaultResourceLoader(), new ObjectMapper(), environment);
+    }
+}
@@ -0,0 +1,19 @@
+package org.exercise.core.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+public record DailyUsage(@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+                         LocalDate date,
+                         Long count,
+                         Long spent,
+                         Integer closingBalance) {
+
+    public static DailyUsage of(Object[] row) {
+        LocalDate date = row[0] instanceof Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) row[0];
+        return new DailyUsage(date, ((Number) row[1]).longValue(), ((Number) row[2]).longValue(),
+                ((Number) row[3]).intValue());
+    }
+}
@@ -0,0 +1,6 @@
+package org.exercise.core.dtos;
+
+import org.exercise.core.enums.OperationType;
+
+public record OperationStats(OperationType operationType, Long count, Long spent) {
+}
@@ -0,0 +1,71 @@
+package org.exercise.core.dtos;
+
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+public record RecordCursor(boolean byOperationType, OperationType operationType, ZonedDateTime date, UUID id,
+                           String filterKey) {
+
+    private static final String DATE_MODE = "d";
+    private static final String OPERATION_TYPE_MODE = "t";
+
+    public static RecordCursor from(RecordView record, boolean byOperationType) {
+        return from(record, byOperationType, RecordFilter.none());
+    }
+
+    public static RecordCursor from(RecordView record, boolean byOperationType, RecordFilter filter) {
+        return new RecordCursor(byOperationType, record.operationType(), record.date(), record.id(), filter.key());
+    }
+
+    public List<OperationType> laterTypes() {
+        return Arrays.stream(OperationType.values())
+                .filter(type -> type.name().compareTo(operationType.name()) > 0)
+                .sorted(Comparator.comparing(OperationType::name))
+                .toList();
+    }
+
+    public String encode() {
+        String value = String.join("|", byOperationType ? OPERATION_TYPE_MODE : DATE_MODE,
+                operationType.name(), date.toInstant().toString(), id.toString(), filterKey);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RecordCursor decode(String cursor, boolean byOperationType) {
+        return decode(cursor, byOperationType, RecordFilter.none());
+    }
+
+    public static RecordCursor decode(String cursor, boolean byOperationType, RecordFilter filter) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor for the requested ordering");
+        }
+
+        String expectedMode = byOperationType ? OPERATION_TYPE_MODE : DATE_MODE;
+        if (parts.length != 5 || !parts[0].equals(expectedMode)) {
+            throw new BadRequestException("Invalid cursor for the requested ordering");
+        }
+        if (!parts[4].equals(filter.key())) {
+            throw new BadRequestException("Invalid cursor for the requested filters");
+        }
+
+        try {
+            return new RecordCursor(byOperationType, OperationType.valueOf(parts[1]),
+                    Instant.parse(parts[2]).atZone(ZoneOffset.UTC), UUID.fromString(parts[3]), parts[4]);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid cursor for the requested ordering");
+        }
+    }
+}
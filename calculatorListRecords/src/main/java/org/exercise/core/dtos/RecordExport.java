@@ -0,0 +1,11 @@
+package org.exercise.core.dtos;
+
+import org.exercise.core.enums.ExportFormat;
+
+import java.util.UUID;
+
+public record RecordExport(UUID userId,
+                           ExportFormat format,
+                           int maxRows,
+                           boolean truncated) {
+}
@@ -0,0 +1,68 @@
+package org.exercise.core.dtos;
+
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.exceptions.BadRequestException;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+public record RecordFilter(List<String> operationType,
+                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime from,
+                           @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime to,
+                           Integer minAmount,
+                           Integer maxAmount,
+                           String responsePrefix) {
+
+    public static RecordFilter none() {
+        return new RecordFilter(null, null, null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return (operationType == null || operationType.isEmpty()) && from == null && to == null
+                && minAmount == null && maxAmount == null && (responsePrefix == null || responsePrefix.isEmpty());
+    }
+
+    public Set<OperationType> operationTypes() {
+        Set<OperationType> types = EnumSet.noneOf(OperationType.class);
+        if (operationType == null) {
+            return types;
+        }
+
+        for (String type : operationType) {
+            try {
+                types.add(OperationType.valueOf(type.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Wrong operation type filter: " + type);
+            }
+        }
+        return types;
+    }
+
+    public String key() {
+        if (isEmpty()) {
+            return "-";
+        }
+        List<String> types = operationTypes().stream().map(Enum::name).toList();
+        int hash = Objects.hash(types, instant(from), instant(to), minAmount, maxAmount,
+                responsePrefix == null || responsePrefix.isEmpty() ? null : responsePrefix);
+        return Integer.toHexString(hash);
+    }
+
+    private static Instant instant(ZonedDateTime value) {
+        return value == null ? null : value.toInstant();
+    }
+
+    public void validate() {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("The 'from' date must not be after the 'to' date");
+        }
+        if (minAmount != null && maxAmount != null && minAmount > maxAmount) {
+            throw new BadRequestException("The minimum amount must not be greater than the maximum amount");
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package org.exercise.core.dtos;
+
+import java.util.List;
+
+public record RecordPage(List<RecordView> content, int page, int size, boolean hasNext, Long totalElements) {
+}
@@ -0,0 +1,6 @@
+package org.exercise.core.dtos;
+
+import java.util.List;
+
+public record RecordSlice(List<RecordView> content, int size, boolean hasNext, String nextCursor) {
+}
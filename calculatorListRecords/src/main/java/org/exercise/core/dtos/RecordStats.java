@@ -0,0 +1,19 @@
+package org.exercise.core.dtos;
+
+import java.util.List;
+
+public record RecordStats(Long totalRecords,
+                          Long totalSpent,
+                          List<OperationStats> operations,
+                          List<DailyUsage> daily) {
+
+    public static RecordStats of(List<OperationStats> operations, List<DailyUsage> daily) {
+        long totalRecords = 0;
+        long totalSpent = 0;
+        for (OperationStats stats : operations) {
+            totalRecords += stats.count();
+            totalSpent += stats.spent();
+        }
+        return new RecordStats(totalRecords, totalSpent, operations, daily);
+    }
+}
@@ -0,0 +1,16 @@
+package org.exercise.core.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.exercise.core.enums.OperationType;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+public record RecordView(UUID id,
+                         OperationType operationType,
+                         Integer amount,
+                         Integer userBalance,
+                         String operationResponse,
+                         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+                         ZonedDateTime date) {
+}
@@ -0,0 +1,36 @@
+package org.exercise.core.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.exercise.core.enums.OperationType;
+
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(UserOperationStatsId.class)
+@Table(name = "tb_record_stats")
+public class UserOperationStats {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation_type")
+    private OperationType operationType;
+
+    @Column(nullable = false, name = "record_count")
+    private Long recordCount;
+
+    @Column(nullable = false, name = "total_spent")
+    private Long totalSpent;
+
+}
@@ -0,0 +1,24 @@
+package org.exercise.core.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.exercise.core.enums.OperationType;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class UserOperationStatsId implements Serializable {
+
+    private UUID userId;
+
+    private OperationType operationType;
+
+}
@@ -0,0 +1,27 @@
+package org.exercise.core.enums;
+
+import lombok.Getter;
+import org.exercise.core.exceptions.BadRequestException;
+
+@Getter
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat fromValue(String value) {
+        try {
+            return ExportFormat.valueOf(value.toUpperCase());
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Wrong export format. Options are: ndjson and csv");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.exercise.core.enums;
+
+import org.exercise.core.exceptions.BadRequestException;
+
+public enum TotalMode {
+
+    EXACT,
+    CACHED,
+    NONE;
+
+    public static TotalMode fromValue(String value) {
+        try {
+            return TotalMode.valueOf(value.toUpperCase());
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Wrong total mode. Options are: exact, cached and none");
+        }
+    }
+}
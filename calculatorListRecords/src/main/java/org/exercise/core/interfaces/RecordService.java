@@ -1,12 +1,44 @@
 package org.exercise.core.interfaces;
 
-import org.exercise.core.entities.Record;
+import org.exercise.core.dtos.RecordExport;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordPage;
+import org.exercise.core.dtos.RecordSlice;
+import org.exercise.core.dtos.RecordStats;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.enums.ExportFormat;
+import org.exercise.core.enums.TotalMode;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.Writer;
+
 @Service
 public interface RecordService {
 
-    public Page<Record> getRecords(String token, Integer page, Integer size, String orderedBY);
+    public default Page<RecordView> getRecords(String token, Integer page, Integer size, String orderedBy) {
+        return getRecords(token, page, size, orderedBy, RecordFilter.none());
+    }
+
+    public Page<RecordView> getRecords(String token, Integer page, Integer size, String orderedBy, RecordFilter filter);
+
+    public RecordPage getRecordPage(String token, Integer page, Integer size, String orderedBy, RecordFilter filter,
+                                    TotalMode total);
+
+    public default RecordSlice getRecordsByCursor(String token, String cursor, Integer size, String orderedBy) {
+        return getRecordsByCursor(token, cursor, size, orderedBy, RecordFilter.none());
+    }
+
+    public RecordSlice getRecordsByCursor(String token, String cursor, Integer size, String orderedBy,
+                                          RecordFilter filter);
+
+    public void exportRecords(String token, ExportFormat format, Writer writer) throws IOException;
+
+    public RecordExport prepareExport(String token, ExportFormat format);
+
+    public void writeExport(RecordExport export, Writer writer) throws IOException;
+
+    public RecordStats getRecordStats(String token, Integer days);
 
 }
@@ -0,0 +1,14 @@
+package org.exercise.core.interfaces;
+
+import org.exercise.core.dtos.TokenCacheStats;
+import org.exercise.core.dtos.TokenPrincipal;
+
+import java.text.ParseException;
+
+public interface TokenVerifier {
+
+    TokenPrincipal verify(String token) throws ParseException;
+
+    TokenCacheStats cacheStats();
+
+}
@@ -1,26 +1,48 @@
 package org.exercise.core.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.SignedJWT;
 import lombok.RequiredArgsConstructor;
-import org.exercise.core.entities.Record;
-import org.exercise.core.entities.User;
+import org.exercise.core.dtos.DailyUsage;
+import org.exercise.core.dtos.OperationStats;
+import org.exercise.core.dtos.RecordCursor;
+import org.exercise.core.dtos.RecordExport;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordPage;
+import org.exercise.core.dtos.RecordSlice;
+import org.exercise.core.dtos.RecordStats;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.enums.ExportFormat;
+import org.exercise.core.enums.TotalMode;
 import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.NotFoundException;
 import org.exercise.core.interfaces.RecordService;
+import org.exercise.core.interfaces.TokenVerifier;
 import org.exercise.infrastructure.persistence.RecordRepository;
+import org.exercise.infrastructure.persistence.UserOperationStatsRepository;
 import org.exercise.infrastructure.persistence.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.text.ParseException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -28,33 +50,234 @@ public class RecordServiceImpl implements RecordService {
 
     private static final Logger logger = LoggerFactory.getLogger(RecordServiceImpl.class);
 
+    static final int DEFAULT_EXPORT_MAX_ROWS = 20000;
+    static final int MAX_STATS_DAYS = 366;
+    private static final DateTimeFormatter EXPORT_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String CSV_HEADER = "id,operationType,amount,userBalance,operationResponse,date";
+
     private final RecordRepository recordRepository;
     private final UserRepository userRepository;
+    private final UserOperationStatsRepository userOperationStatsRepository;
+    private final ObjectMapper objectMapper;
+    private final TokenVerifier tokenVerifier;
+    private final int exportMaxRows = parseMaxRows(System.getenv("EXPORT_MAX_ROWS"));
+    private final boolean statsFromSummary = Boolean.parseBoolean(System.getenv("RECORD_STATS_FROM_SUMMARY"));
 
-    public Page<Record> getRecords(String token, Integer page, Integer size, String orderedBy) {
+    @Transactional(readOnly = true)
+    public Page<RecordView> getRecords(String token, Integer page, Integer size, String orderedBy, RecordFilter filter) {
         logger.info("Fetching user from access token");
         UUID userId = getUserIdFromToken(token);
-        logger.info("User id found: {}", userId);
-        User user = userRepository.findById(userId).orElseThrow(() ->
-                new NotFoundException("User was not found. Please try logging in again"));
-        logger.info("User found. Retrieving user's records not deleted...");
-        Pageable pageable = PageRequest.of(page, size, Sort.by("date").descending());
-        Page<Record> records = getOrderedRecords(orderedBy, user, pageable);
+        logger.info("User id found: {}. Retrieving user's records not deleted...", userId);
+        Page<RecordView> records;
+        if (filter == null || filter.isEmpty()) {
+            records = getOrderedRecords(orderedBy, userId, PageRequest.of(page, size));
+        } else {
+            filter.validate();
+            records = recordRepository.findViews(userId, filter, orderedBy.equalsIgnoreCase("operationType"),
+                    PageRequest.of(page, size));
+        }
+        if (records.isEmpty()) {
+            ensureUserExists(userId);
+        }
         logger.info("Records retrieved");
         return records;
     }
 
-    private Page<Record> getOrderedRecords(String orderedBy, User user, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public RecordPage getRecordPage(String token, Integer page, Integer size, String orderedBy, RecordFilter filter,
+                                    TotalMode total) {
+        if (total == TotalMode.EXACT) {
+            Page<RecordView> records = getRecords(token, page, size, orderedBy, filter);
+            return new RecordPage(records.getContent(), page, size, records.hasNext(), records.getTotalElements());
+        }
+
+        logger.info("Fetching user from access token");
+        UUID userId = getUserIdFromToken(token);
+        logger.info("User id found: {}. Retrieving user's records not deleted without counting...", userId);
+
+        boolean byOperationType = orderedBy.equalsIgnoreCase("operationType");
+        boolean filtered = filter != null && !filter.isEmpty();
+        Pageable pageable = PageRequest.of(page, size);
+        Slice<RecordView> records;
+        if (filtered) {
+            filter.validate();
+            records = recordRepository.findViewSlice(userId, filter, byOperationType, pageable);
+        } else {
+            records = getFirstSlice(byOperationType, userId, pageable);
+        }
+        if (records.isEmpty()) {
+            ensureUserExists(userId);
+        }
+
+        Long totalElements = null;
+        if (!records.hasNext() && (records.hasContent() || page == 0)) {
+            totalElements = pageable.getOffset() + records.getNumberOfElements();
+        } else if (total == TotalMode.CACHED && !filtered) {
+            totalElements = userOperationStatsRepository.countRecords(userId);
+        }
+
+        logger.info("Records retrieved");
+        return new RecordPage(records.getContent(), page, size, records.hasNext(), totalElements);
+    }
+
+    @Transactional(readOnly = true)
+    public RecordSlice getRecordsByCursor(String token, String cursor, Integer size, String orderedBy,
+                                          RecordFilter filter) {
+        logger.info("Fetching user from access token");
+        UUID userId = getUserIdFromToken(token);
+        logger.info("User id found: {}. Retrieving user's records not deleted after cursor...", userId);
+
+        boolean byOperationType = orderedBy.equalsIgnoreCase("operationType");
+        RecordFilter appliedFilter = filter == null ? RecordFilter.none() : filter;
+        RecordCursor after = (cursor == null || cursor.isBlank()) ?
+                null :
+                RecordCursor.decode(cursor, byOperationType, appliedFilter);
+        Pageable pageable = PageRequest.ofSize(size);
+        Slice<RecordView> records;
+        if (!appliedFilter.isEmpty()) {
+            appliedFilter.validate();
+            records = recordRepository.findViewSliceAfter(userId, appliedFilter, byOperationType, after, pageable);
+        } else {
+            records = after == null ?
+                    getFirstSlice(byOperationType, userId, pageable) :
+                    getSliceAfter(after, userId, pageable);
+        }
+        if (records.isEmpty()) {
+            ensureUserExists(userId);
+        }
+
+        String nextCursor = records.hasNext() ?
+                RecordCursor.from(records.getContent().get(records.getNumberOfElements() - 1), byOperationType,
+                        appliedFilter).encode() :
+                null;
+        logger.info("Records retrieved");
+        return new RecordSlice(records.getContent(), size, records.hasNext(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportRecords(String token, ExportFormat format, Writer writer) throws IOException {
+        writeExport(prepareExport(token, format), writer);
+    }
+
+    @Transactional(readOnly = true)
+    public RecordExport prepareExport(String token, ExportFormat format) {
+        logger.info("Fetching user from access token");
+        UUID userId = getUserIdFromToken(token);
+        logger.info("User id found: {}. Counting up to {} records to export...", userId, exportMaxRows + 1);
+
+        long total = recordRepository.countViewsByUserUpTo(userId, exportMaxRows + 1);
+        if (total == 0) {
+            ensureUserExists(userId);
+        }
+        return new RecordExport(userId, format, exportMaxRows, total > exportMaxRows);
+    }
+
+    @Transactional(readOnly = true)
+    public void writeExport(RecordExport export, Writer writer) throws IOException {
+        logger.info("Exporting up to {} records of user {} as {}...", export.maxRows(), export.userId(), export.format());
+        boolean csv = export.format() == ExportFormat.CSV;
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        int rows = 0;
+        try (Stream<RecordView> records = recordRepository.streamViewsByUser(export.userId(), Limit.of(export.maxRows()))) {
+            Iterator<RecordView> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                RecordView record = iterator.next();
+                writer.write(csv ? toCsv(record) : objectMapper.writeValueAsString(record));
+                writer.write('\n');
+                rows++;
+            }
+        }
+        writer.flush();
+        logger.info("Exported {} records{}", rows, export.truncated() ? ", export truncated" : "");
+    }
+
+    @Transactional(readOnly = true)
+    public RecordStats getRecordStats(String token, Integer days) {
+        if (days == null || days < 1 || days > MAX_STATS_DAYS) {
+            throw new BadRequestException("Days must be between 1 and " + MAX_STATS_DAYS);
+        }
+
+        logger.info("Fetching user from access token");
+        UUID userId = getUserIdFromToken(token);
+        logger.info("User id found: {}. Aggregating usage of the last {} days...", userId, days);
+
+        List<OperationStats> operations = statsFromSummary ?
+                userOperationStatsRepository.findOperationStats(userId) :
+                recordRepository.findOperationStats(userId);
+        ZonedDateTime from = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS).minusDays(days - 1L);
+        List<DailyUsage> daily = recordRepository.findDailyUsage(userId, from);
+        if (operations.isEmpty() && daily.isEmpty()) {
+            ensureUserExists(userId);
+        }
+
+        logger.info("Usage statistics aggregated");
+        return RecordStats.of(operations, daily);
+    }
+
+    static String toCsv(RecordView record) {
+        return String.join(",",
+                record.id().toString(),
+                record.operationType().name(),
+                String.valueOf(record.amount()),
+                String.valueOf(record.userBalance()),
+                csvField(record.operationResponse()),
+                record.date().format(EXPORT_DATE_FORMAT));
+    }
+
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    static int parseMaxRows(String value) {
+        try {
+            return value == null || value.isBlank() ? DEFAULT_EXPORT_MAX_ROWS : Math.max(1, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid EXPORT_MAX_ROWS value: {}, using default", value);
+            return DEFAULT_EXPORT_MAX_ROWS;
+        }
+    }
+
+    private void ensureUserExists(UUID userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("User was not found. Please try logging in again");
+        }
+    }
+
+    private Slice<RecordView> getFirstSlice(boolean byOperationType, UUID userId, Pageable pageable) {
+        return byOperationType ?
+                recordRepository.findFirstSliceOrderByOperationType(userId, pageable) :
+                recordRepository.findFirstSliceOrderByDate(userId, pageable);
+    }
+
+    private Slice<RecordView> getSliceAfter(RecordCursor cursor, UUID userId, Pageable pageable) {
+        if (!cursor.byOperationType()) {
+            return recordRepository.findSliceAfterDate(userId, cursor.date(), cursor.id(), pageable);
+        }
+
+        return recordRepository.findSliceAfterOperationType(userId, cursor.operationType(), cursor.laterTypes(),
+                cursor.date(), cursor.id(), pageable);
+    }
+
+    private Page<RecordView> getOrderedRecords(String orderedBy, UUID userId, Pageable pageable) {
         return (!orderedBy.equalsIgnoreCase("operationType")) ?
-                recordRepository.findAllByUserAndDeletedFalseOrderByDateAsc(user, pageable) :
-                recordRepository.findAllByUserAndDeletedFalseOrderByOperationTypeAsc(user.getId(), pageable);
+                recordRepository.findViewsByUserOrderByDate(userId, pageable) :
+                recordRepository.findViewsByUserOrderByOperationType(userId, pageable);
     }
 
     private UUID getUserIdFromToken(String idToken) {
         try {
             logger.info("Retrieving user id from token");
-            SignedJWT signedJWT = SignedJWT.parse(idToken);
-            return Optional.ofNullable(signedJWT.getJWTClaimsSet().getStringClaim("sub"))
+            return Optional.ofNullable(tokenVerifier.verify(idToken).subject())
                     .map(sub -> {
                         try {
                             return UUID.fromString(sub);
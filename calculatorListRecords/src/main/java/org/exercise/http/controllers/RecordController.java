@@ -1,12 +1,24 @@
 package org.exercise.http.controllers;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.exercise.core.entities.Record;
+import org.exercise.core.dtos.RecordExport;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordPage;
+import org.exercise.core.dtos.RecordSlice;
+import org.exercise.core.dtos.RecordStats;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.enums.ExportFormat;
+import org.exercise.core.enums.TotalMode;
 import org.exercise.core.interfaces.RecordService;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequestMapping("/api/v1")
 @RequiredArgsConstructor
@@ -20,11 +32,55 @@ public class RecordController {
     }
 
     @GetMapping("/records")
-    public ResponseEntity<Page<Record>> getRecords(@RequestHeader String accessToken,
+    public ResponseEntity<Page<RecordView>> getRecords(@RequestHeader String accessToken,
                                                    @RequestParam(defaultValue = "0") Integer page,
                                                    @RequestParam(defaultValue = "10") Integer size,
-                                                    @RequestParam(defaultValue = "data") String orderedBy) {
-        Page<Record> records = recordService.getRecords(accessToken, page, size, orderedBy);
+                                                    @RequestParam(defaultValue = "data") String orderedBy,
+                                                   RecordFilter filter) {
+        Page<RecordView> records = recordService.getRecords(accessToken, page, size, orderedBy, filter);
+        return ResponseEntity.ok(records);
+    }
+
+    @GetMapping(value = "/records", params = {"total", "!cursor"})
+    public ResponseEntity<RecordPage> getRecordPage(@RequestHeader String accessToken,
+                                                    @RequestParam String total,
+                                                    @RequestParam(defaultValue = "0") Integer page,
+                                                    @RequestParam(defaultValue = "10") Integer size,
+                                                    @RequestParam(defaultValue = "data") String orderedBy,
+                                                    RecordFilter filter) {
+        RecordPage records = recordService.getRecordPage(accessToken, page, size, orderedBy, filter,
+                TotalMode.fromValue(total));
         return ResponseEntity.ok(records);
     }
+
+    @GetMapping(value = "/records", params = "cursor")
+    public ResponseEntity<RecordSlice> getRecordsByCursor(@RequestHeader String accessToken,
+                                                          @RequestParam String cursor,
+                                                          @RequestParam(defaultValue = "10") Integer size,
+                                                          @RequestParam(defaultValue = "data") String orderedBy,
+                                                          RecordFilter filter) {
+        RecordSlice records = recordService.getRecordsByCursor(accessToken, cursor, size, orderedBy, filter);
+        return ResponseEntity.ok(records);
+    }
+
+    @GetMapping("/records/stats")
+    public ResponseEntity<RecordStats> getRecordStats(@RequestHeader String accessToken,
+                                                      @RequestParam(defaultValue = "30") Integer days) {
+        RecordStats stats = recordService.getRecordStats(accessToken, days);
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/records/export")
+    public void exportRecords(@RequestHeader String accessToken,
+                              @RequestParam(defaultValue = "ndjson") String format,
+                              HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        RecordExport export = recordService.prepareExport(accessToken, exportFormat);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"records." + exportFormat.getExtension() + "\"");
+        response.setHeader("X-Export-Max-Rows", String.valueOf(export.maxRows()));
+        response.setHeader("X-Export-Truncated", String.valueOf(export.truncated()));
+        recordService.writeExport(export, response.getWriter());
+    }
 }
@@ -4,8 +4,10 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import org.exercise.core.dtos.ResponseTemplate;
 import org.exercise.core.exceptions.BadGatewayException;
+import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.InternalErrorException;
 import org.exercise.core.exceptions.NotFoundException;
+import org.exercise.core.exceptions.UnauthorizedException;
 import org.exercise.core.exceptions.UnprocessableEntityException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +42,18 @@ public class GlobalExceptionHandler {
         return createErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getLocalizedMessage());
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<ResponseTemplate> handleBadRequestException(BadRequestException ex) {
+        logError(ex, ex.getLocalizedMessage());
+        return createErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getLocalizedMessage());
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ResponseTemplate> handleUnauthorizedException(UnauthorizedException ex) {
+        logError(ex, ex.getLocalizedMessage());
+        return createErrorResponse(ex, HttpStatus.UNAUTHORIZED, ex.getLocalizedMessage());
+    }
+
     @ExceptionHandler(BadGatewayException.class)
     public ResponseEntity<ResponseTemplate> handleBadGatewayException(BadGatewayException ex) {
         logError(ex, ex.getLocalizedMessage());
@@ -0,0 +1,169 @@
+package org.exercise.infrastructure.clients;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+public class JwksProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwksProvider.class);
+    private static final int TIMEOUT_MILLIS = 2000;
+    private static final int SIZE_LIMIT_BYTES = 50 * 1024;
+    static final Duration MIN_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    static final Path DEFAULT_SNAPSHOT = Path.of("/opt", "cognito-jwks.json");
+
+    private final URI jwksUri;
+    private final Path snapshot;
+    private final boolean snapshotWritable;
+    private final long minRefreshIntervalNanos;
+    private volatile Map<String, JWSVerifier> verifiers = Map.of();
+    private long lastFetch;
+    private boolean fetched;
+
+    @Autowired
+    public JwksProvider(@Value("${COGNITO_JWKS_URL:}") String jwksUrl,
+                        @Value("${COGNITO_ISSUER:}") String issuer,
+                        @Value("${COGNITO_JWKS_SNAPSHOT:}") String snapshot) {
+        this(jwksUri(jwksUrl, issuer), snapshotPath(snapshot), MIN_REFRESH_INTERVAL);
+    }
+
+    public JwksProvider(URI jwksUri, Path snapshot, Duration minRefreshInterval) {
+        this.jwksUri = jwksUri;
+        this.snapshot = snapshot;
+        this.snapshotWritable = isWritable(snapshot);
+        this.minRefreshIntervalNanos = minRefreshInterval.toNanos();
+    }
+
+    public void preload() {
+        if (loadSnapshot()) {
+            return;
+        }
+        refresh();
+    }
+
+    public JWSVerifier verifierFor(String keyId) {
+        if (keyId == null) {
+            return null;
+        }
+
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier == null && refresh()) {
+            verifier = verifiers.get(keyId);
+        }
+        return verifier;
+    }
+
+    synchronized boolean refresh() {
+        long now = System.nanoTime();
+        if (jwksUri == null || (fetched && now - lastFetch < minRefreshIntervalNanos)) {
+            return false;
+        }
+        fetched = true;
+        lastFetch = now;
+
+        try {
+            URL url = jwksUri.toURL();
+            JWKSet jwkSet = JWKSet.load(url, TIMEOUT_MILLIS, TIMEOUT_MILLIS, SIZE_LIMIT_BYTES);
+            verifiers = toVerifiers(jwkSet);
+            logger.info("JWKS fetched from {}: {} signing keys", jwksUri, verifiers.size());
+            writeSnapshot(jwkSet);
+            return true;
+        } catch (IOException | ParseException | IllegalArgumentException e) {
+            logger.error("Could not fetch JWKS from {}: {}", jwksUri, e.getMessage());
+            return false;
+        }
+    }
+
+    boolean loadSnapshot() {
+        if (snapshot == null || !Files.isReadable(snapshot)) {
+            return false;
+        }
+
+        try {
+            verifiers = toVerifiers(JWKSet.parse(Files.readString(snapshot, StandardCharsets.UTF_8)));
+            logger.info("JWKS loaded from snapshot {}: {} signing keys", snapshot, verifiers.size());
+            return !verifiers.isEmpty();
+        } catch (IOException | ParseException e) {
+            logger.warn("Ignoring unreadable JWKS snapshot {}: {}", snapshot, e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeSnapshot(JWKSet jwkSet) {
+        if (!snapshotWritable) {
+            return;
+        }
+
+        try {
+            Path temporary = Files.createTempFile(snapshot.toAbsolutePath().getParent(), "jwks", ".tmp");
+            Files.writeString(temporary, jwkSet.toString(true), StandardCharsets.UTF_8);
+            Files.move(temporary, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write JWKS snapshot {}: {}", snapshot, e.getMessage());
+        }
+    }
+
+    private static Map<String, JWSVerifier> toVerifiers(JWKSet jwkSet) {
+        Map<String, JWSVerifier> result = new HashMap<>();
+        for (JWK jwk : jwkSet.getKeys()) {
+            if (!(jwk instanceof RSAKey rsaKey) || jwk.getKeyID() == null
+                    || (jwk.getKeyUse() != null && !KeyUse.SIGNATURE.equals(jwk.getKeyUse()))) {
+                continue;
+            }
+            try {
+                result.put(jwk.getKeyID(), new RSASSAVerifier(rsaKey));
+            } catch (JOSEException e) {
+                logger.warn("Skipping JWKS key {}: {}", jwk.getKeyID(), e.getMessage());
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    static URI jwksUri(String jwksUrl, String issuer) {
+        if (jwksUrl != null && !jwksUrl.isBlank()) {
+            return URI.create(jwksUrl.trim());
+        }
+        if (issuer != null && !issuer.isBlank()) {
+            return URI.create(issuer.trim() + "/.well-known/jwks.json");
+        }
+        return null;
+    }
+
+    static Path snapshotPath(String snapshot) {
+        if (snapshot == null || snapshot.isBlank()) {
+            return DEFAULT_SNAPSHOT;
+        }
+        return Path.of(snapshot.trim());
+    }
+
+    static boolean isWritable(Path snapshot) {
+        if (snapshot == null) {
+            return false;
+        }
+        Path directory = snapshot.toAbsolutePath().getParent();
+        return directory != null && Files.isWritable(directory) && (!Files.exists(snapshot) || Files.isWritable(snapshot));
+    }
+}
@@ -0,0 +1,20 @@
+package org.exercise.infrastructure.persistence;
+
+import org.exercise.core.dtos.RecordCursor;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.UUID;
+
+public interface RecordFilterRepository {
+
+    Page<RecordView> findViews(UUID userId, RecordFilter filter, boolean byOperationType, Pageable pageable);
+
+    Slice<RecordView> findViewSlice(UUID userId, RecordFilter filter, boolean byOperationType, Pageable pageable);
+
+    Slice<RecordView> findViewSliceAfter(UUID userId, RecordFilter filter, boolean byOperationType,
+                                         RecordCursor cursor, Pageable pageable);
+}
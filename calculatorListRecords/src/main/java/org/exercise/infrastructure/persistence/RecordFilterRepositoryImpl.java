@@ -0,0 +1,135 @@
+package org.exercise.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.exercise.core.dtos.RecordCursor;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.entities.Record;
+import org.exercise.core.enums.OperationType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public class RecordFilterRepositoryImpl implements RecordFilterRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<RecordView> findViews(UUID userId, RecordFilter filter, boolean byOperationType, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        List<RecordView> content = entityManager.createQuery(viewQuery(cb, userId, filter, byOperationType, null))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(cb, userId, filter));
+    }
+
+    @Override
+    public Slice<RecordView> findViewSlice(UUID userId, RecordFilter filter, boolean byOperationType, Pageable pageable) {
+        return findViewSliceAfter(userId, filter, byOperationType, null, pageable);
+    }
+
+    @Override
+    public Slice<RecordView> findViewSliceAfter(UUID userId, RecordFilter filter, boolean byOperationType,
+                                                RecordCursor cursor, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        List<RecordView> content = entityManager.createQuery(viewQuery(cb, userId, filter, byOperationType, cursor))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private CriteriaQuery<RecordView> viewQuery(CriteriaBuilder cb, UUID userId, RecordFilter filter,
+                                                boolean byOperationType, RecordCursor cursor) {
+        CriteriaQuery<RecordView> query = cb.createQuery(RecordView.class);
+        Root<Record> record = query.from(Record.class);
+        Join<Record, Operation> operation = record.join("operation");
+        List<Predicate> predicates = new ArrayList<>(List.of(predicates(cb, record, operation, userId, filter)));
+        if (cursor != null) {
+            predicates.add(after(cb, record, operation, byOperationType, cursor));
+        }
+        return query.select(cb.construct(RecordView.class,
+                        record.get("id"), operation.get("type"), record.get("amount"), record.get("userBalance"),
+                        record.get("operationResponse"), record.get("date")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(byOperationType ?
+                        List.of(cb.asc(operation.get("type")), cb.desc(record.get("date")), cb.desc(record.get("id"))) :
+                        List.of(cb.asc(record.get("date")), cb.asc(record.get("id"))));
+    }
+
+    private Predicate after(CriteriaBuilder cb, Root<Record> record, Join<Record, Operation> operation,
+                            boolean byOperationType, RecordCursor cursor) {
+        if (!byOperationType) {
+            return cb.or(cb.greaterThan(record.<ZonedDateTime>get("date"), cursor.date()),
+                    cb.and(cb.equal(record.get("date"), cursor.date()),
+                            cb.greaterThan(record.<UUID>get("id"), cursor.id())));
+        }
+
+        Predicate sameType = cb.and(cb.equal(operation.get("type"), cursor.operationType()),
+                cb.or(cb.lessThan(record.<ZonedDateTime>get("date"), cursor.date()),
+                        cb.and(cb.equal(record.get("date"), cursor.date()),
+                                cb.lessThan(record.<UUID>get("id"), cursor.id()))));
+        List<OperationType> laterTypes = cursor.laterTypes();
+        return laterTypes.isEmpty() ? sameType : cb.or(operation.get("type").in(laterTypes), sameType);
+    }
+
+    private long count(CriteriaBuilder cb, UUID userId, RecordFilter filter) {
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Record> record = query.from(Record.class);
+        Join<Record, Operation> operation = record.join("operation");
+        query.select(cb.count(record)).where(predicates(cb, record, operation, userId, filter));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicates(CriteriaBuilder cb, Root<Record> record, Join<Record, Operation> operation,
+                                   UUID userId, RecordFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(record.get("user").get("id"), userId));
+        predicates.add(cb.isFalse(record.get("deleted")));
+
+        Set<OperationType> types = filter.operationTypes();
+        if (!types.isEmpty()) {
+            predicates.add(operation.get("type").in(types));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(record.<ZonedDateTime>get("date"), filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThanOrEqualTo(record.<ZonedDateTime>get("date"), filter.to()));
+        }
+        if (filter.minAmount() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(record.<Integer>get("amount"), filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(record.<Integer>get("amount"), filter.maxAmount()));
+        }
+        if (filter.responsePrefix() != null && !filter.responsePrefix().isEmpty()) {
+            predicates.add(cb.like(record.get("operationResponse"), escapeLike(filter.responsePrefix()) + "%", '\\'));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
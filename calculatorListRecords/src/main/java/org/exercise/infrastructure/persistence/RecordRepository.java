@@ -1,23 +1,121 @@
 package org.exercise.infrastructure.persistence;
 
+import jakarta.persistence.QueryHint;
+import org.exercise.core.dtos.DailyUsage;
+import org.exercise.core.dtos.OperationStats;
+import org.exercise.core.dtos.RecordView;
 import org.exercise.core.entities.Record;
-import org.exercise.core.entities.User;
+import org.exercise.core.enums.OperationType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface RecordRepository extends JpaRepository<Record, UUID> {
+public interface RecordRepository extends JpaRepository<Record, UUID>, RecordFilterRepository {
 
-    Page<Record> findAllByUserAndDeletedFalseOrderByDateAsc(User user, Pageable pageable);
+    String RECORD_VIEW = "SELECT new org.exercise.core.dtos.RecordView(" +
+            "r.id, o.type, r.amount, r.userBalance, r.operationResponse, r.date) " +
+            "FROM Record r " +
+            "JOIN r.operation o ";
 
-    @Query("SELECT r FROM Record r " +
-            "JOIN FETCH r.operation o " +
+    @Query(value = RECORD_VIEW +
             "WHERE r.user.id = :userId " +
             "AND r.deleted = false " +
+            "ORDER BY r.date ASC, r.id ASC",
+            countQuery = "SELECT COUNT(r) FROM Record r WHERE r.user.id = :userId AND r.deleted = false")
+    Page<RecordView> findViewsByUserOrderByDate(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(value = RECORD_VIEW +
+            "WHERE r.user.id = :userId " +
+            "AND r.deleted = false " +
+            "ORDER BY o.type ASC, r.date DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM Record r WHERE r.user.id = :userId AND r.deleted = false")
+    Page<RecordView> findViewsByUserOrderByOperationType(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(RECORD_VIEW +
+            "WHERE r.user.id = :userId " +
+            "AND r.deleted = false " +
+            "ORDER BY r.date ASC, r.id ASC")
+    Slice<RecordView> findFirstSliceOrderByDate(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(RECORD_VIEW +
+            "WHERE r.user.id = :userId " +
+            "AND r.deleted = false " +
+            "AND (r.date > :date OR (r.date = :date AND r.id > :id)) " +
+            "ORDER BY r.date ASC, r.id ASC")
+    Slice<RecordView> findSliceAfterDate(@Param("userId") UUID userId, @Param("date") ZonedDateTime date,
+                                         @Param("id") UUID id, Pageable pageable);
+
+    @Query(RECORD_VIEW +
+            "WHERE r.user.id = :userId " +
+            "AND r.deleted = false " +
+            "ORDER BY o.type ASC, r.date DESC, r.id DESC")
+    Slice<RecordView> findFirstSliceOrderByOperationType(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query(RECORD_VIEW +
+            "WHERE r.user.id = :userId " +
+            "AND r.deleted = false " +
+            "AND (o.type IN :laterTypes OR (o.type = :type " +
+            "AND (r.date < :date OR (r.date = :date AND r.id < :id)))) " +
+            "ORDER BY o.type ASC, r.date DESC, r.id DESC")
+    Slice<RecordView> findSliceAfterOperationType(@Param("userId") UUID userId, @Param("type") OperationType type,
+                                                  @Param("laterTypes") Collection<OperationType> laterTypes,
+                                                  @Param("date") ZonedDateTime date, @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(RECORD_VIEW +
+            "WHERE r.user.id = :userId " +
+            "AND r.deleted = false " +
+            "ORDER BY r.date ASC, r.id ASC")
+    Stream<RecordView> streamViewsByUser(@Param("userId") UUID userId, Limit limit);
+
+    @Query(value = "SELECT COUNT(*) FROM (" +
+            "SELECT r.id FROM tb_records r " +
+            "WHERE r.user_id = :userId " +
+            "AND r.deleted = false " +
+            "LIMIT :limit) l",
+            nativeQuery = true)
+    long countViewsByUserUpTo(@Param("userId") UUID userId, @Param("limit") int limit);
+
+    @Query("SELECT new org.exercise.core.dtos.OperationStats(o.type, COUNT(r), SUM(r.amount)) " +
+            "FROM Record r JOIN r.operation o " +
+            "WHERE r.user.id = :userId " +
+            "AND r.deleted = false " +
+            "GROUP BY o.type " +
             "ORDER BY o.type ASC")
-    Page<Record> findAllByUserAndDeletedFalseOrderByOperationTypeAsc(@Param("userId") UUID userId, Pageable pageable);
+    List<OperationStats> findOperationStats(@Param("userId") UUID userId);
+
+    @Query(value = "SELECT d.usage_date, COUNT(*), SUM(d.amount), MAX(d.closing_balance) " +
+            "FROM (SELECT CAST(r.date AT TIME ZONE 'UTC' AS DATE) AS usage_date, r.amount, " +
+            "FIRST_VALUE(r.user_balance) OVER (PARTITION BY CAST(r.date AT TIME ZONE 'UTC' AS DATE) " +
+            "ORDER BY r.date DESC, r.id DESC) AS closing_balance " +
+            "FROM tb_records r " +
+            "WHERE r.user_id = :userId " +
+            "AND r.deleted = false " +
+            "AND r.date >= :from) d " +
+            "GROUP BY d.usage_date " +
+            "ORDER BY d.usage_date ASC",
+            nativeQuery = true)
+    List<Object[]> findDailyUsageRows(@Param("userId") UUID userId, @Param("from") ZonedDateTime from);
+
+    default List<DailyUsage> findDailyUsage(UUID userId, ZonedDateTime from) {
+        return findDailyUsageRows(userId, from).stream()
+                .map(DailyUsage::of)
+                .toList();
+    }
 }
@@ -0,0 +1,24 @@
+package org.exercise.infrastructure.persistence;
+
+import org.exercise.core.dtos.OperationStats;
+import org.exercise.core.entities.UserOperationStats;
+import org.exercise.core.entities.UserOperationStatsId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface UserOperationStatsRepository extends JpaRepository<UserOperationStats, UserOperationStatsId> {
+
+    @Query("SELECT new org.exercise.core.dtos.OperationStats(s.operationType, s.recordCount, s.totalSpent) " +
+            "FROM UserOperationStats s " +
+            "WHERE s.userId = :userId " +
+            "AND s.recordCount > 0 " +
+            "ORDER BY s.operationType ASC")
+    List<OperationStats> findOperationStats(@Param("userId") UUID userId);
+
+    @Query("SELECT COALESCE(SUM(s.recordCount), 0) FROM UserOperationStats s WHERE s.userId = :userId")
+    long countRecords(@Param("userId") UUID userId);
+}
@@ -0,0 +1,74 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jose.JOSEException;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordPage;
+import org.exercise.core.enums.TotalMode;
+import org.exercise.core.interfaces.RecordService;
+import org.exercise.infrastructure.persistence.QueryCounter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class RecordCountBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"EXACT", "CACHED", "NONE"})
+    public TotalMode total;
+
+    private SeededRecords records;
+    private RecordService recordService;
+    private String token;
+    private long statementsPerRequest;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+
+        public long statementsPerRequest;
+
+        @Setup(Level.Iteration)
+        public void setUp(RecordCountBenchmark benchmark) {
+            statementsPerRequest = benchmark.statementsPerRequest;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws JOSEException {
+        records = SeededRecords.seed("countbenchmark", rows);
+        recordService = records.recordService();
+        token = records.token();
+
+        QueryCounter queryCounter = new QueryCounter(records.entityManagerFactory());
+        statementsPerRequest = queryCounter.count(this::requestFirstPage);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        records.close();
+    }
+
+    @Benchmark
+    public RecordPage firstPage(Statements statements) {
+        return requestFirstPage();
+    }
+
+    private RecordPage requestFirstPage() {
+        return recordService.getRecordPage(token, 0, 10, "data", RecordFilter.none(), total);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RecordCountBenchmark.class.getSimpleName()).build()).run();
+    }
+}
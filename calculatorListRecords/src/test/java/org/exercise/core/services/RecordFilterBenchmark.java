@@ -0,0 +1,84 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jose.JOSEException;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordSlice;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.interfaces.RecordService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class RecordFilterBenchmark {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Param({"1000000"})
+    public int rows;
+
+    private SeededRecords records;
+    private RecordService recordService;
+    private String token;
+    private RecordFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JOSEException {
+        records = SeededRecords.seed("filterbenchmark", rows);
+        recordService = records.recordService();
+        token = records.token();
+        filter = new RecordFilter(List.of("division"), SeededRecords.START.plusSeconds(rows / 2), null, null, null, "1");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        records.close();
+    }
+
+    @Benchmark
+    public int clientSideFiltering() {
+        Set<OperationType> types = filter.operationTypes();
+        int matches = 0;
+        String cursor = "";
+        do {
+            RecordSlice slice = recordService.getRecordsByCursor(token, cursor, PAGE_SIZE, "data");
+            for (RecordView record : slice.content()) {
+                if (types.contains(record.operationType())
+                        && !record.date().isBefore(filter.from())
+                        && record.operationResponse().startsWith(filter.responsePrefix())) {
+                    matches++;
+                }
+            }
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+        return matches;
+    }
+
+    @Benchmark
+    public int serverSideFiltering() {
+        int matches = 0;
+        int page = 0;
+        Page<RecordView> result;
+        do {
+            result = recordService.getRecords(token, page++, PAGE_SIZE, "data", filter);
+            matches += result.getNumberOfElements();
+        } while (result.hasNext());
+        return matches;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(RecordFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
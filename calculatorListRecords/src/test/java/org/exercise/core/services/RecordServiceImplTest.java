@@ -1,12 +1,26 @@
 package org.exercise.core.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import org.exercise.core.entities.Record;
-import org.exercise.core.entities.User;
+import org.exercise.core.dtos.DailyUsage;
+import org.exercise.core.dtos.OperationStats;
+import org.exercise.core.dtos.RecordCursor;
+import org.exercise.core.dtos.RecordExport;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordPage;
+import org.exercise.core.dtos.RecordSlice;
+import org.exercise.core.dtos.RecordStats;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.enums.ExportFormat;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.enums.TotalMode;
 import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.NotFoundException;
+import org.exercise.core.interfaces.TokenVerifier;
 import org.exercise.infrastructure.persistence.RecordRepository;
+import org.exercise.infrastructure.persistence.UserOperationStatsRepository;
 import org.exercise.infrastructure.persistence.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,14 +28,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
+import java.io.StringWriter;
+import java.lang.reflect.Field;
 import java.text.ParseException;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,6 +59,15 @@ class RecordServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserOperationStatsRepository userOperationStatsRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Spy
+    private TokenVerifier tokenVerifier = new TokenVerifierImpl(null, null, false, Clock.systemUTC());
+
     @InjectMocks
     private RecordServiceImpl recordService;
 
@@ -46,11 +80,10 @@ class RecordServiceImplTest {
     void testGetRecords_Success() throws Exception {
         String token = "validToken";
         UUID userId = UUID.randomUUID();
-        User user = new User();
-        Page<Record> mockPage = new PageImpl<>(Collections.singletonList(new Record()));
+        Page<RecordView> mockPage = new PageImpl<>(Collections.singletonList(
+                view(OperationType.ADDITION, ZonedDateTime.now())));
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(recordRepository.findAllByUserAndDeletedFalseOrderByDateAsc(eq(user), any(Pageable.class))).thenReturn(mockPage);
+        when(recordRepository.findViewsByUserOrderByDate(eq(userId), any(Pageable.class))).thenReturn(mockPage);
 
         SignedJWT signedJWT = mock(SignedJWT.class);
         JWTClaimsSet jwtClaimsSet = mock(JWTClaimsSet.class);
@@ -60,12 +93,13 @@ class RecordServiceImplTest {
             when(signedJWT.getJWTClaimsSet()).thenReturn(jwtClaimsSet);
             when(jwtClaimsSet.getStringClaim("sub")).thenReturn(userId.toString());
 
-            Page<Record> result = recordService.getRecords(token, 0, 10, "");
+            Page<RecordView> result = recordService.getRecords(token, 0, 10, "");
 
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
-            verify(userRepository, times(1)).findById(userId);
-            verify(recordRepository, times(1)).findAllByUserAndDeletedFalseOrderByDateAsc(eq(user), any(Pageable.class));
+            verify(userRepository, never()).findById(any());
+            verify(userRepository, never()).existsById(any());
+            verify(recordRepository, times(1)).findViewsByUserOrderByDate(eq(userId), any(Pageable.class));
         }
     }
 
@@ -82,13 +116,15 @@ class RecordServiceImplTest {
             when(signedJWT.getJWTClaimsSet()).thenReturn(jwtClaimsSet);
             when(jwtClaimsSet.getStringClaim("sub")).thenReturn(userId.toString());
 
-            when(userRepository.findById(userId)).thenReturn(Optional.empty());
+            when(recordRepository.findViewsByUserOrderByDate(eq(userId), any(Pageable.class))).thenReturn(Page.empty());
+            when(userRepository.existsById(userId)).thenReturn(false);
 
             NotFoundException exception = assertThrows(NotFoundException.class, () -> {
                 recordService.getRecords(token, 0, 10, "");
             });
             assertEquals("User was not found. Please try logging in again", exception.getMessage());
-            verify(userRepository, times(1)).findById(userId);
+            verify(userRepository, times(1)).existsById(userId);
+            verify(userRepository, never()).findById(any());
         }
     }
 
@@ -146,4 +182,468 @@ class RecordServiceImplTest {
             assertTrue(exception.getMessage().contains(invalidUUID));
         }
     }
+
+    @Test
+    void testGetRecordPage_WithoutTotalSkipsCount() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        List<RecordView> content = List.of(view(OperationType.ADDITION, ZonedDateTime.now()),
+                view(OperationType.ADDITION, ZonedDateTime.now()));
+
+        when(recordRepository.findFirstSliceOrderByDate(userId, PageRequest.of(0, 2)))
+                .thenReturn(new SliceImpl<>(content, PageRequest.of(0, 2), true));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordPage result = recordService.getRecordPage(token, 0, 2, "data", RecordFilter.none(), TotalMode.NONE);
+
+            assertEquals(content, result.content());
+            assertTrue(result.hasNext());
+            assertNull(result.totalElements());
+            verify(recordRepository, never()).findViewsByUserOrderByDate(any(), any());
+            verifyNoInteractions(userOperationStatsRepository);
+        }
+    }
+
+    @Test
+    void testGetRecordPage_CachedTotalReadsCounter() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+
+        when(recordRepository.findFirstSliceOrderByOperationType(userId, PageRequest.of(0, 1)))
+                .thenReturn(new SliceImpl<>(List.of(view(OperationType.ADDITION, ZonedDateTime.now())),
+                        PageRequest.of(0, 1), true));
+        when(userOperationStatsRepository.countRecords(userId)).thenReturn(42L);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordPage result = recordService.getRecordPage(token, 0, 1, "operationType", null, TotalMode.CACHED);
+
+            assertEquals(42L, result.totalElements());
+            verify(recordRepository, never()).findViewsByUserOrderByOperationType(any(), any());
+        }
+    }
+
+    @Test
+    void testGetRecordPage_LastSliceComputesTotal() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+
+        when(recordRepository.findFirstSliceOrderByDate(userId, PageRequest.of(1, 2)))
+                .thenReturn(new SliceImpl<>(List.of(view(OperationType.ADDITION, ZonedDateTime.now())),
+                        PageRequest.of(1, 2), false));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordPage result = recordService.getRecordPage(token, 1, 2, "data", RecordFilter.none(), TotalMode.CACHED);
+
+            assertFalse(result.hasNext());
+            assertEquals(3L, result.totalElements());
+            verifyNoInteractions(userOperationStatsRepository);
+        }
+    }
+
+    @Test
+    void testGetRecordPage_WithFilterUsesSliceQuery() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordFilter filter = new RecordFilter(List.of("addition"), null, null, null, null, null);
+
+        when(recordRepository.findViewSlice(userId, filter, false, PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 10), false));
+        when(userRepository.existsById(userId)).thenReturn(true);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordPage result = recordService.getRecordPage(token, 0, 10, "data", filter, TotalMode.CACHED);
+
+            assertTrue(result.content().isEmpty());
+            assertEquals(0L, result.totalElements());
+            verify(recordRepository, never()).findViews(any(), any(), anyBoolean(), any());
+        }
+    }
+
+    @Test
+    void testTotalMode_UnknownValue() {
+        assertEquals(TotalMode.CACHED, TotalMode.fromValue("cached"));
+        assertThrows(BadRequestException.class, () -> TotalMode.fromValue("approximate"));
+    }
+
+    @Test
+    void testGetRecordsByCursor_FirstSliceReturnsNextCursor() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordView last = view(OperationType.ADDITION, ZonedDateTime.parse("2024-05-01T10:00:00Z"));
+
+        when(recordRepository.findFirstSliceOrderByDate(eq(userId), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(last), PageRequest.ofSize(1), true));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordSlice result = recordService.getRecordsByCursor(token, "", 1, "data");
+
+            assertTrue(result.hasNext());
+            assertEquals(1, result.content().size());
+            RecordCursor cursor = RecordCursor.decode(result.nextCursor(), false);
+            assertEquals(last.id(), cursor.id());
+            assertEquals(last.date().toInstant(), cursor.date().toInstant());
+            verify(recordRepository, never()).findViewsByUserOrderByDate(any(), any());
+        }
+    }
+
+    @Test
+    void testGetRecordsByCursor_SeeksAfterCursorByOperationType() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordView previous = view(OperationType.MULTIPLICATION, ZonedDateTime.parse("2024-05-01T10:00:00Z"));
+        String cursor = RecordCursor.from(previous, true).encode();
+
+        when(userRepository.existsById(userId)).thenReturn(true);
+        when(recordRepository.findSliceAfterOperationType(eq(userId), eq(OperationType.MULTIPLICATION), any(),
+                any(ZonedDateTime.class), eq(previous.id()), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(Collections.emptyList()));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordSlice result = recordService.getRecordsByCursor(token, cursor, 10, "operationType");
+
+            assertFalse(result.hasNext());
+            assertNull(result.nextCursor());
+            verify(recordRepository).findSliceAfterOperationType(eq(userId), eq(OperationType.MULTIPLICATION),
+                    eq(List.of(OperationType.RANDOM_STRING, OperationType.SQUARE_ROOT, OperationType.SUBTRACTION)),
+                    any(ZonedDateTime.class), eq(previous.id()), any(Pageable.class));
+        }
+    }
+
+    @Test
+    void testGetRecordsByCursor_CursorFromOtherOrdering() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        String cursor = RecordCursor.from(view(OperationType.ADDITION, ZonedDateTime.now()), false).encode();
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            BadRequestException exception = assertThrows(BadRequestException.class,
+                    () -> recordService.getRecordsByCursor(token, cursor, 10, "operationType"));
+            assertEquals("Invalid cursor for the requested ordering", exception.getMessage());
+        }
+    }
+
+    @Test
+    void testGetRecordsByCursor_WithFilter_SeeksThroughTheFilteredQuery() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordFilter filter = new RecordFilter(List.of("division"), null, null, null, null, null);
+        RecordView previous = view(OperationType.DIVISION, ZonedDateTime.parse("2024-05-01T10:00:00Z"));
+        RecordView next = view(OperationType.DIVISION, ZonedDateTime.parse("2024-05-02T10:00:00Z"));
+        String cursor = RecordCursor.from(previous, false, filter).encode();
+
+        when(recordRepository.findViewSliceAfter(eq(userId), eq(filter), eq(false), any(RecordCursor.class),
+                any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(next), PageRequest.ofSize(1), true));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordSlice result = recordService.getRecordsByCursor(token, cursor, 1, "data", filter);
+
+            assertEquals(List.of(next), result.content());
+            assertEquals(next.id(), RecordCursor.decode(result.nextCursor(), false, filter).id());
+            verify(recordRepository).findViewSliceAfter(eq(userId), eq(filter), eq(false),
+                    argThat(after -> after.id().equals(previous.id())), any(Pageable.class));
+            verify(recordRepository, never()).findSliceAfterDate(any(), any(), any(), any());
+        }
+    }
+
+    @Test
+    void testGetRecordsByCursor_CursorFromOtherFilter() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        String cursor = RecordCursor.from(view(OperationType.DIVISION, ZonedDateTime.now()), false).encode();
+        RecordFilter filter = new RecordFilter(List.of("division"), null, null, null, null, null);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            BadRequestException exception = assertThrows(BadRequestException.class,
+                    () -> recordService.getRecordsByCursor(token, cursor, 10, "data", filter));
+            assertEquals("Invalid cursor for the requested filters", exception.getMessage());
+            verify(recordRepository, never()).findViewSliceAfter(any(), any(), anyBoolean(), any(), any());
+        }
+    }
+
+    @Test
+    void testRecordCursor_MalformedValue() {
+        assertThrows(BadRequestException.class, () -> RecordCursor.decode("not a cursor", false));
+        assertThrows(BadRequestException.class, () -> RecordCursor.decode("ZHxBRERJVElPTnx4fHk", false));
+    }
+
+    @Test
+    void testGetRecords_WithFilterUsesFilteredQuery() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordFilter filter = new RecordFilter(List.of("division", "square_root"), null, null, 1, 10, "0,");
+        Page<RecordView> mockPage = new PageImpl<>(List.of(view(OperationType.DIVISION, ZonedDateTime.now())));
+
+        when(recordRepository.findViews(eq(userId), eq(filter), eq(true), any(Pageable.class))).thenReturn(mockPage);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            Page<RecordView> result = recordService.getRecords(token, 0, 10, "operationType", filter);
+
+            assertEquals(1, result.getTotalElements());
+            verify(recordRepository, never()).findViewsByUserOrderByOperationType(any(), any());
+        }
+    }
+
+    @Test
+    void testGetRecords_InvalidFilterRange() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordFilter filter = new RecordFilter(null, ZonedDateTime.parse("2024-05-02T00:00:00Z"),
+                ZonedDateTime.parse("2024-05-01T00:00:00Z"), null, null, null);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            BadRequestException exception = assertThrows(BadRequestException.class,
+                    () -> recordService.getRecords(token, 0, 10, "data", filter));
+            assertEquals("The 'from' date must not be after the 'to' date", exception.getMessage());
+            verifyNoInteractions(recordRepository);
+        }
+    }
+
+    @Test
+    void testRecordFilter_OperationTypes() {
+        RecordFilter filter = new RecordFilter(List.of(" addition", "DIVISION"), null, null, null, null, null);
+
+        assertFalse(filter.isEmpty());
+        assertEquals(Set.of(OperationType.ADDITION, OperationType.DIVISION), filter.operationTypes());
+        assertTrue(RecordFilter.none().isEmpty());
+        assertThrows(BadRequestException.class,
+                () -> new RecordFilter(List.of("modulo"), null, null, null, null, null).operationTypes());
+    }
+
+    @Test
+    void testExportRecords_Ndjson() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordView first = new RecordView(UUID.randomUUID(), OperationType.ADDITION, 5, 95, "10",
+                ZonedDateTime.parse("2024-11-19T19:15:06Z"));
+        RecordView second = new RecordView(UUID.randomUUID(), OperationType.DIVISION, 5, 90, "0,5",
+                ZonedDateTime.parse("2024-11-19T19:16:00Z"));
+
+        when(recordRepository.countViewsByUserUpTo(userId, RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS + 1)).thenReturn(2L);
+        when(recordRepository.streamViewsByUser(eq(userId), any(Limit.class)))
+                .thenReturn(Stream.of(first, second));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+            StringWriter writer = new StringWriter();
+
+            recordService.exportRecords(token, ExportFormat.NDJSON, writer);
+
+            String[] lines = writer.toString().split("\n");
+            assertEquals(2, lines.length);
+            assertEquals("{\"id\":\"" + first.id() + "\",\"operationType\":\"ADDITION\",\"amount\":5,"
+                    + "\"userBalance\":95,\"operationResponse\":\"10\",\"date\":\"2024-11-19T19:15:06\"}", lines[0]);
+            assertTrue(lines[1].contains("\"operationResponse\":\"0,5\""));
+            verify(userRepository, never()).existsById(any());
+        }
+    }
+
+    @Test
+    void testExportRecords_CsvEscapesResponses() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        RecordView record = new RecordView(UUID.randomUUID(), OperationType.RANDOM_STRING, 5, 95, "abc\ndef\n",
+                ZonedDateTime.parse("2024-11-19T19:15:06Z"));
+
+        when(recordRepository.countViewsByUserUpTo(userId, RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS + 1)).thenReturn(1L);
+        when(recordRepository.streamViewsByUser(eq(userId), any(Limit.class))).thenReturn(Stream.of(record));
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+            StringWriter writer = new StringWriter();
+
+            recordService.exportRecords(token, ExportFormat.CSV, writer);
+
+            assertEquals("id,operationType,amount,userBalance,operationResponse,date\n"
+                    + record.id() + ",RANDOM_STRING,5,95,\"abc\ndef\n\",2024-11-19T19:15:06\n", writer.toString());
+        }
+    }
+
+    @Test
+    void testExportRecords_UnknownUser() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+
+        when(recordRepository.countViewsByUserUpTo(eq(userId), anyInt())).thenReturn(0L);
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            assertThrows(NotFoundException.class, () -> recordService.prepareExport(token, ExportFormat.CSV));
+            verify(recordRepository, never()).streamViewsByUser(any(), any());
+        }
+    }
+
+    @Test
+    void testPrepareExport_FlagsHistoriesAboveTheCap() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+
+        when(recordRepository.countViewsByUserUpTo(userId, RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS + 1))
+                .thenReturn(RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS + 1L);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordExport export = recordService.prepareExport(token, ExportFormat.NDJSON);
+
+            assertEquals(userId, export.userId());
+            assertEquals(RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS, export.maxRows());
+            assertTrue(export.truncated());
+            verify(userRepository, never()).existsById(any());
+        }
+    }
+
+    @Test
+    void testPrepareExport_DoesNotFlagHistoriesAtTheCap() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+
+        when(recordRepository.countViewsByUserUpTo(userId, RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS + 1))
+                .thenReturn((long) RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            assertFalse(recordService.prepareExport(token, ExportFormat.CSV).truncated());
+        }
+    }
+
+    @Test
+    void testWriteExport_CsvWithoutRecordsWritesTheHeader() throws Exception {
+        UUID userId = UUID.randomUUID();
+        when(recordRepository.streamViewsByUser(eq(userId), any(Limit.class))).thenReturn(Stream.empty());
+        StringWriter writer = new StringWriter();
+
+        recordService.writeExport(new RecordExport(userId, ExportFormat.CSV, 10, false), writer);
+
+        assertEquals("id,operationType,amount,userBalance,operationResponse,date\n", writer.toString());
+    }
+
+    @Test
+    void testCsvField_QuotesSeparatorsAndQuotes() {
+        assertEquals("10", RecordServiceImpl.csvField("10"));
+        assertEquals("\"0,5\"", RecordServiceImpl.csvField("0,5"));
+        assertEquals("\"say \"\"hi\"\"\"", RecordServiceImpl.csvField("say \"hi\""));
+    }
+
+    @Test
+    void testParseMaxRows() {
+        assertEquals(RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS, RecordServiceImpl.parseMaxRows(null));
+        assertEquals(RecordServiceImpl.DEFAULT_EXPORT_MAX_ROWS, RecordServiceImpl.parseMaxRows("many"));
+        assertEquals(500, RecordServiceImpl.parseMaxRows("500"));
+    }
+
+    @Test
+    void testGetRecordStats_AggregatesRecords() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        List<OperationStats> operations = List.of(
+                new OperationStats(OperationType.ADDITION, 3L, 15L),
+                new OperationStats(OperationType.DIVISION, 2L, 20L));
+        List<DailyUsage> daily = List.of(new DailyUsage(LocalDate.now(), 5L, 35L, 65));
+
+        when(recordRepository.findOperationStats(userId)).thenReturn(operations);
+        when(recordRepository.findDailyUsage(eq(userId), any(ZonedDateTime.class))).thenReturn(daily);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordStats stats = recordService.getRecordStats(token, 30);
+
+            assertEquals(5L, stats.totalRecords());
+            assertEquals(35L, stats.totalSpent());
+            assertEquals(operations, stats.operations());
+            assertEquals(daily, stats.daily());
+            verifyNoInteractions(userOperationStatsRepository);
+            verify(userRepository, never()).existsById(any());
+        }
+    }
+
+    @Test
+    void testGetRecordStats_ReadsSummaryTableWhenEnabled() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+        setPrivateField(recordService, "statsFromSummary", true);
+
+        when(userOperationStatsRepository.findOperationStats(userId))
+                .thenReturn(List.of(new OperationStats(OperationType.ADDITION, 4L, 20L)));
+        when(recordRepository.findDailyUsage(eq(userId), any(ZonedDateTime.class))).thenReturn(Collections.emptyList());
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            RecordStats stats = recordService.getRecordStats(token, 7);
+
+            assertEquals(4L, stats.totalRecords());
+            assertEquals(20L, stats.totalSpent());
+            verify(recordRepository, never()).findOperationStats(any());
+        }
+    }
+
+    @Test
+    void testGetRecordStats_UnknownUser() throws Exception {
+        String token = "validToken";
+        UUID userId = UUID.randomUUID();
+
+        when(recordRepository.findOperationStats(userId)).thenReturn(Collections.emptyList());
+        when(recordRepository.findDailyUsage(eq(userId), any(ZonedDateTime.class))).thenReturn(Collections.emptyList());
+        when(userRepository.existsById(userId)).thenReturn(false);
+
+        try (MockedStatic<SignedJWT> mockedJWT = mockStatic(SignedJWT.class)) {
+            stubToken(mockedJWT, token, userId);
+
+            assertThrows(NotFoundException.class, () -> recordService.getRecordStats(token, 30));
+        }
+    }
+
+    @Test
+    void testGetRecordStats_InvalidDays() {
+        assertThrows(BadRequestException.class, () -> recordService.getRecordStats("validToken", 0));
+        assertThrows(BadRequestException.class,
+                () -> recordService.getRecordStats("validToken", RecordServiceImpl.MAX_STATS_DAYS + 1));
+        verifyNoInteractions(recordRepository);
+    }
+
+    private void setPrivateField(Object targetObject, String fieldName, Object value) throws Exception {
+        Field field = targetObject.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(targetObject, value);
+    }
+
+    private RecordView view(OperationType type, ZonedDateTime date) {
+        return new RecordView(UUID.randomUUID(), type, 5, 95, "10", date);
+    }
+
+    private void stubToken(MockedStatic<SignedJWT> mockedJWT, String token, UUID userId) throws ParseException {
+        SignedJWT signedJWT = mock(SignedJWT.class);
+        JWTClaimsSet jwtClaimsSet = mock(JWTClaimsSet.class);
+
+        mockedJWT.when(() -> SignedJWT.parse(token)).thenReturn(signedJWT);
+        when(signedJWT.getJWTClaimsSet()).thenReturn(jwtClaimsSet);
+        when(jwtClaimsSet.getStringClaim("sub")).thenReturn(userId.toString());
+    }
 }
@@ -0,0 +1,360 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.exercise.Application;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordPage;
+import org.exercise.core.dtos.DailyUsage;
+import org.exercise.core.dtos.RecordSlice;
+import org.exercise.core.dtos.RecordStats;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.entities.Balance;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.entities.Record;
+import org.exercise.core.entities.User;
+import org.exercise.core.entities.UserOperationStats;
+import org.exercise.core.enums.ExportFormat;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.enums.TotalMode;
+import org.exercise.core.exceptions.BadRequestException;
+import org.exercise.core.exceptions.NotFoundException;
+import org.exercise.core.interfaces.RecordService;
+import org.exercise.infrastructure.persistence.QueryCounter;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordServiceQueryCountTest {
+
+    private static ConfigurableApplicationContext context;
+    private static RecordService recordService;
+    private static QueryCounter queryCounter;
+    private static UUID userId;
+
+    @BeforeAll
+    static void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:querycount",
+                        "spring.jpa.properties.hibernate.generate_statistics=true")
+                .run();
+        recordService = context.getBean(RecordService.class);
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        queryCounter = new QueryCounter(entityManagerFactory);
+        userId = UUID.randomUUID();
+
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        Balance balance = new Balance();
+        balance.setAmount(100);
+        User user = new User(userId, "user@mail.com", "password", "user@mail.com", true, balance);
+        entityManager.persist(user);
+
+        Operation addition = new Operation();
+        addition.setType(OperationType.ADDITION);
+        addition.setCost(5);
+        entityManager.persist(addition);
+
+        for (int i = 0; i < 3; i++) {
+            Record record = new Record();
+            record.setOperation(addition);
+            record.setUser(user);
+            record.setAmount(5);
+            record.setUserBalance(95 - 5 * i);
+            record.setOperationResponse(String.valueOf(i));
+            record.setDate(ZonedDateTime.now().plusSeconds(i));
+            entityManager.persist(record);
+        }
+
+        entityManager.persist(new UserOperationStats(userId, OperationType.ADDITION, 3L, 15L));
+
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void getRecords_singlePage_runsOneStatement() throws Exception {
+        String token = token(userId);
+
+        long statements = queryCounter.count(() -> recordService.getRecords(token, 0, 10, "data"));
+
+        assertEquals(1, statements);
+    }
+
+    @Test
+    void getRecords_partialPage_runsContentAndCountStatements() throws Exception {
+        String token = token(userId);
+
+        long statements = queryCounter.count(() -> recordService.getRecords(token, 0, 2, "operationType"));
+
+        assertEquals(2, statements);
+    }
+
+    @Test
+    void getRecordsByCursor_runsOneStatementPerSlice() throws Exception {
+        String token = token(userId);
+        RecordSlice[] slices = new RecordSlice[2];
+
+        long firstStatements = queryCounter.count(() -> slices[0] = recordService.getRecordsByCursor(token, "", 2, "data"));
+        long secondStatements = queryCounter.count(() ->
+                slices[1] = recordService.getRecordsByCursor(token, slices[0].nextCursor(), 2, "data"));
+
+        assertEquals(1, firstStatements);
+        assertEquals(1, secondStatements);
+        assertEquals(2, slices[0].content().size());
+        assertEquals(1, slices[1].content().size());
+        assertFalse(slices[1].hasNext());
+    }
+
+    @Test
+    void getRecordPage_returnsTheSameRowsWhateverTheTotalModeOrFilter() throws Exception {
+        String token = token(userId);
+        RecordFilter additions = new RecordFilter(List.of("addition"), null, null, null, null, null);
+
+        for (String orderedBy : List.of("data", "operationType")) {
+            List<RecordView> exact = recordService.getRecordPage(token, 1, 1, orderedBy, RecordFilter.none(), TotalMode.EXACT).content();
+            List<RecordView> none = recordService.getRecordPage(token, 1, 1, orderedBy, RecordFilter.none(), TotalMode.NONE).content();
+            List<RecordView> cached = recordService.getRecordPage(token, 1, 1, orderedBy, RecordFilter.none(), TotalMode.CACHED).content();
+            List<RecordView> filtered = recordService.getRecordPage(token, 1, 1, orderedBy, additions, TotalMode.NONE).content();
+            RecordSlice first = recordService.getRecordsByCursor(token, "", 1, orderedBy);
+            RecordSlice second = recordService.getRecordsByCursor(token, first.nextCursor(), 1, orderedBy);
+
+            assertEquals(exact, none, orderedBy);
+            assertEquals(exact, cached, orderedBy);
+            assertEquals(exact, filtered, orderedBy);
+            assertEquals(exact, second.content(), orderedBy);
+        }
+    }
+
+    @Test
+    void getRecordsByCursor_withFilter_pagesOnlyMatchingRecords() throws Exception {
+        UUID mixedUserId = UUID.randomUUID();
+        ZonedDateTime start = ZonedDateTime.now(ZoneOffset.UTC).minusHours(1);
+
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        entityManager.getTransaction().begin();
+        Balance balance = new Balance();
+        balance.setAmount(80);
+        User user = new User(mixedUserId, "mixed@mail.com", "password", "mixed@mail.com", true, balance);
+        entityManager.persist(user);
+        Operation addition = entityManager.createQuery("FROM Operation o WHERE o.type = :type", Operation.class)
+                .setParameter("type", OperationType.ADDITION)
+                .getSingleResult();
+        Operation division = new Operation();
+        division.setType(OperationType.DIVISION);
+        division.setCost(5);
+        entityManager.persist(division);
+        persistRecord(entityManager, division, user, 95, start.plusMinutes(1));
+        persistRecord(entityManager, addition, user, 90, start.plusMinutes(2));
+        persistRecord(entityManager, division, user, 85, start.plusMinutes(3));
+        persistRecord(entityManager, addition, user, 80, start.plusMinutes(4));
+        entityManager.getTransaction().commit();
+        entityManager.close();
+
+        String token = token(mixedUserId);
+        RecordFilter divisions = new RecordFilter(List.of("division"), null, null, null, null, null);
+
+        for (String orderedBy : List.of("data", "operationType")) {
+            RecordSlice first = recordService.getRecordsByCursor(token, "", 1, orderedBy, divisions);
+            RecordSlice second = recordService.getRecordsByCursor(token, first.nextCursor(), 1, orderedBy, divisions);
+
+            assertEquals(OperationType.DIVISION, first.content().get(0).operationType(), orderedBy);
+            assertEquals(OperationType.DIVISION, second.content().get(0).operationType(), orderedBy);
+            assertNotEquals(first.content().get(0).id(), second.content().get(0).id(), orderedBy);
+            assertFalse(second.hasNext(), orderedBy);
+            assertThrows(BadRequestException.class,
+                    () -> recordService.getRecordsByCursor(token, first.nextCursor(), 1, orderedBy));
+        }
+    }
+
+    @Test
+    void getRecords_unknownUser_checksExistenceOnlyWhenEmpty() throws Exception {
+        String token = token(UUID.randomUUID());
+
+        long statements = queryCounter.count(() ->
+                assertThrows(NotFoundException.class, () -> recordService.getRecords(token, 0, 10, "data")));
+
+        assertEquals(2, statements);
+    }
+
+    @Test
+    void exportRecords_countsThenStreamsAllRowsWithTwoStatements() throws Exception {
+        String token = token(userId);
+        StringWriter writer = new StringWriter();
+
+        long statements = queryCounter.count(() -> {
+            try {
+                recordService.exportRecords(token, ExportFormat.CSV, writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(2, statements);
+        assertEquals(4, lines.length);
+        assertEquals("id,operationType,amount,userBalance,operationResponse,date", lines[0]);
+        assertTrue(lines[1].contains(",ADDITION,5,95,0,"));
+        assertTrue(lines[3].contains(",ADDITION,5,85,2,"));
+    }
+
+    @Test
+    void getRecords_withFilters_runsOneStatementForASinglePage() throws Exception {
+        String token = token(userId);
+        RecordFilter filter = new RecordFilter(List.of("addition"), null, null, 5, 5, "1");
+        AtomicReference<Page<RecordView>> page = new AtomicReference<>();
+
+        long statements = queryCounter.count(() -> page.set(recordService.getRecords(token, 0, 10, "data", filter)));
+
+        assertEquals(1, statements);
+        assertEquals(1, page.get().getTotalElements());
+        assertEquals("1", page.get().getContent().get(0).operationResponse());
+    }
+
+    @Test
+    void getRecords_withNonMatchingFilter_returnsEmptyPage() throws Exception {
+        String token = token(userId);
+        RecordFilter filter = new RecordFilter(List.of("division"), null, null, null, null, null);
+
+        Page<RecordView> page = recordService.getRecords(token, 0, 10, "operationType", filter);
+
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    void getRecordStats_runsOneStatementPerAggregate() throws Exception {
+        String token = token(userId);
+        AtomicReference<RecordStats> stats = new AtomicReference<>();
+
+        long statements = queryCounter.count(() -> stats.set(recordService.getRecordStats(token, 30)));
+
+        assertEquals(2, statements);
+        assertEquals(3L, stats.get().totalRecords());
+        assertEquals(15L, stats.get().totalSpent());
+        assertEquals(OperationType.ADDITION, stats.get().operations().get(0).operationType());
+        assertEquals(3L, stats.get().daily().stream().mapToLong(DailyUsage::count).sum());
+        assertEquals(85, stats.get().daily().get(stats.get().daily().size() - 1).closingBalance());
+    }
+
+    @Test
+    void getRecordStats_usesTheLastBalanceOfEachUtcDay() throws Exception {
+        UUID refundedUserId = UUID.randomUUID();
+        ZonedDateTime today = ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.DAYS);
+
+        EntityManager entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        entityManager.getTransaction().begin();
+        Balance balance = new Balance();
+        balance.setAmount(90);
+        User user = new User(refundedUserId, "refunded@mail.com", "password", "refunded@mail.com", true, balance);
+        entityManager.persist(user);
+        Operation operation = entityManager.createQuery("FROM Operation", Operation.class).getResultList().get(0);
+        persistRecord(entityManager, operation, user, 95, today.withZoneSameInstant(ZoneOffset.ofHours(2)).minusMinutes(30));
+        persistRecord(entityManager, operation, user, 80, today.plusMinutes(1));
+        persistRecord(entityManager, operation, user, 90, today.plusMinutes(2));
+        entityManager.getTransaction().commit();
+        entityManager.close();
+
+        RecordStats stats = recordService.getRecordStats(token(refundedUserId), 30);
+
+        assertEquals(2, stats.daily().size());
+        assertEquals(new DailyUsage(today.toLocalDate().minusDays(1), 1L, 5L, 95), stats.daily().get(0));
+        assertEquals(new DailyUsage(today.toLocalDate(), 2L, 10L, 90), stats.daily().get(1));
+    }
+
+    @Test
+    void getRecordPage_withoutTotal_runsOneStatement() throws Exception {
+        String token = token(userId);
+        AtomicReference<RecordPage> page = new AtomicReference<>();
+
+        long statements = queryCounter.count(() ->
+                page.set(recordService.getRecordPage(token, 0, 2, "data", RecordFilter.none(), TotalMode.NONE)));
+
+        assertEquals(1, statements);
+        assertEquals(2, page.get().content().size());
+        assertTrue(page.get().hasNext());
+        assertNull(page.get().totalElements());
+    }
+
+    @Test
+    void getRecordPage_exactTotal_countsWithASecondStatement() throws Exception {
+        String token = token(userId);
+        AtomicReference<RecordPage> page = new AtomicReference<>();
+
+        long statements = queryCounter.count(() ->
+                page.set(recordService.getRecordPage(token, 0, 2, "data", RecordFilter.none(), TotalMode.EXACT)));
+
+        assertEquals(2, statements);
+        assertEquals(3L, page.get().totalElements());
+    }
+
+    @Test
+    void getRecordPage_cachedTotal_readsCounterInsteadOfCounting() throws Exception {
+        String token = token(userId);
+        AtomicReference<RecordPage> page = new AtomicReference<>();
+
+        long statements = queryCounter.count(() ->
+                page.set(recordService.getRecordPage(token, 0, 2, "operationType", RecordFilter.none(), TotalMode.CACHED)));
+
+        assertEquals(2, statements);
+        assertEquals(3L, page.get().totalElements());
+    }
+
+    @Test
+    void getRecordPage_lastPage_derivesTotalWithoutExtraStatement() throws Exception {
+        String token = token(userId);
+        AtomicReference<RecordPage> page = new AtomicReference<>();
+
+        long statements = queryCounter.count(() ->
+                page.set(recordService.getRecordPage(token, 1, 2, "data", RecordFilter.none(), TotalMode.CACHED)));
+
+        assertEquals(1, statements);
+        assertEquals(1, page.get().content().size());
+        assertEquals(3L, page.get().totalElements());
+    }
+
+    private static void persistRecord(EntityManager entityManager, Operation operation, User user,
+                                      int userBalance, ZonedDateTime date) {
+        Record record = new Record();
+        record.setOperation(operation);
+        record.setUser(user);
+        record.setAmount(5);
+        record.setUserBalance(userBalance);
+        record.setOperationResponse("0");
+        record.setDate(date);
+        entityManager.persist(record);
+    }
+
+    private static String token(UUID subject) throws Exception {
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder().subject(subject.toString()).build());
+        signedJWT.sign(new MACSigner("0123456789abcdef0123456789abcdef"));
+        return signedJWT.serialize();
+    }
+}
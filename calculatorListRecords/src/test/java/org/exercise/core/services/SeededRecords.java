@@ -0,0 +1,119 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.exercise.Application;
+import org.exercise.core.entities.Balance;
+import org.exercise.core.entities.Operation;
+import org.exercise.core.entities.Record;
+import org.exercise.core.entities.User;
+import org.exercise.core.entities.UserOperationStats;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.interfaces.RecordService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+final class SeededRecords implements AutoCloseable {
+
+    static final ZonedDateTime START = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+    private static final int FLUSH_SIZE = 1000;
+
+    private final ConfigurableApplicationContext context;
+    private final String token;
+
+    private SeededRecords(ConfigurableApplicationContext context, String token) {
+        this.context = context;
+        this.token = token;
+    }
+
+    static SeededRecords seed(String database, int rows) throws JOSEException {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:" + database,
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + FLUSH_SIZE,
+                        "spring.jpa.properties.hibernate.order_inserts=true")
+                .run();
+
+        UUID userId = UUID.randomUUID();
+        insert(context.getBean(EntityManagerFactory.class), userId, rows);
+
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder().subject(userId.toString()).build());
+        signedJWT.sign(new MACSigner("0123456789abcdef0123456789abcdef"));
+        return new SeededRecords(context, signedJWT.serialize());
+    }
+
+    private static void insert(EntityManagerFactory entityManagerFactory, UUID userId, int rows) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+
+        Balance balance = new Balance();
+        balance.setAmount(rows);
+        entityManager.persist(new User(userId, "benchmark", "password", "benchmark@mail.com", true, balance));
+
+        OperationType[] types = OperationType.values();
+        UUID[] operationIds = new UUID[types.length];
+        long[] counts = new long[types.length];
+        long[] spent = new long[types.length];
+        for (int i = 0; i < types.length; i++) {
+            Operation operation = new Operation();
+            operation.setType(types[i]);
+            operation.setCost(i + 1);
+            entityManager.persist(operation);
+            operationIds[i] = operation.getId();
+        }
+
+        for (int i = 0; i < rows; i++) {
+            int type = i % types.length;
+            Record record = new Record();
+            record.setOperation(entityManager.getReference(Operation.class, operationIds[type]));
+            record.setUser(entityManager.getReference(User.class, userId));
+            record.setAmount(type + 1);
+            record.setUserBalance(rows - i);
+            record.setOperationResponse(String.valueOf(i % 1000));
+            record.setDate(START.plusSeconds(i));
+            entityManager.persist(record);
+            counts[type]++;
+            spent[type] += type + 1;
+
+            if ((i + 1) % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        for (int i = 0; i < types.length; i++) {
+            entityManager.persist(new UserOperationStats(userId, types[i], counts[i], spent[i]));
+        }
+
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    EntityManagerFactory entityManagerFactory() {
+        return context.getBean(EntityManagerFactory.class);
+    }
+
+    RecordService recordService() {
+        return context.getBean(RecordService.class);
+    }
+
+    String token() {
+        return token;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,70 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.exercise.core.dtos.TokenPrincipal;
+import org.exercise.infrastructure.clients.JwksProvider;
+import org.exercise.infrastructure.clients.JwksStandIn;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+    private JwksStandIn standIn;
+    private Path snapshot;
+    private TokenVerifierImpl tokenVerifier;
+    private TokenVerifierImpl uncachedVerifier;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        standIn = JwksStandIn.start();
+        snapshot = Files.createTempFile("jwks", ".json");
+        JwksProvider jwksProvider = new JwksProvider(standIn.jwksUri(), snapshot, Duration.ofMinutes(1));
+        tokenVerifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, true, Clock.systemUTC());
+        tokenVerifier.preload();
+        uncachedVerifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, true, Clock.systemUTC(), 0);
+        token = standIn.token(UUID.randomUUID());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        standIn.close();
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public JWTClaimsSet parseOnly() throws ParseException {
+        return SignedJWT.parse(token).getJWTClaimsSet();
+    }
+
+    @Benchmark
+    public TokenPrincipal verify() throws ParseException {
+        return uncachedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public TokenPrincipal verifyCached() throws ParseException {
+        return tokenVerifier.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(TokenVerifierBenchmark.class.getSimpleName()).build()).run();
+    }
+}
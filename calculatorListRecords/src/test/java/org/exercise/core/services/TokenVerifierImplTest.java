@@ -0,0 +1,273 @@
+package org.exercise.core.services;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.exercise.core.dtos.TokenCacheStats;
+import org.exercise.core.dtos.TokenPrincipal;
+import org.exercise.core.exceptions.UnauthorizedException;
+import org.exercise.infrastructure.clients.JwksProvider;
+import org.exercise.infrastructure.clients.JwksStandIn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenVerifierImplTest {
+
+    @TempDir
+    Path directory;
+
+    private JwksStandIn standIn;
+    private JwksProvider jwksProvider;
+    private TokenVerifierImpl tokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        standIn = JwksStandIn.start();
+        jwksProvider = new JwksProvider(standIn.jwksUri(), directory.resolve("jwks.json"), Duration.ofMinutes(1));
+        tokenVerifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, true, Clock.systemUTC());
+        tokenVerifier.preload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        standIn.close();
+    }
+
+    @Test
+    void context_createsTheVerifierFromProperties() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                    "COGNITO_JWKS_URL", standIn.jwksUri().toString(),
+                    "COGNITO_ISSUER", JwksStandIn.ISSUER,
+                    "COGNITO_JWKS_SNAPSHOT", directory.resolve("context-jwks.json").toString())));
+            context.register(JwksProvider.class, TokenVerifierImpl.class);
+            context.refresh();
+
+            String token = standIn.token(UUID.randomUUID());
+            assertDoesNotThrow(() -> context.getBean(TokenVerifierImpl.class).verify(token));
+        }
+    }
+
+    @Test
+    void verify_validToken_returnsPrincipal() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(600);
+
+        TokenPrincipal principal = tokenVerifier.verify(standIn.token(userId, JwksStandIn.ISSUER, "access", expiresAt));
+
+        assertEquals(userId.toString(), principal.subject());
+        assertEquals(expiresAt.getEpochSecond(), principal.expiresAt().getEpochSecond());
+        assertEquals(Set.of("aws.cognito.signin.user.admin"), principal.scopes());
+    }
+
+    @Test
+    void verify_sameTokenTwice_servesSecondCallFromCache() throws Exception {
+        String token = standIn.token(UUID.randomUUID());
+
+        TokenPrincipal first = tokenVerifier.verify(token);
+        TokenPrincipal second = tokenVerifier.verify(token);
+
+        assertSame(first, second);
+        TokenCacheStats stats = tokenVerifier.cacheStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void verify_cachedTokenPastExpiry_isVerifiedAgain() throws Exception {
+        MutableClock clock = new MutableClock(Instant.now());
+        TokenVerifierImpl verifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, true, clock);
+        String token = standIn.token(UUID.randomUUID(), JwksStandIn.ISSUER, "access", clock.instant().plusSeconds(30));
+
+        verifier.verify(token);
+        clock.advance(Duration.ofSeconds(30 + TokenVerifierImpl.CLOCK_SKEW.getSeconds() + 1));
+
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> verifier.verify(token));
+        assertEquals("Token has expired", exception.getMessage());
+        assertEquals(0, verifier.cacheStats().hits());
+        assertEquals(0, verifier.cacheStats().size());
+    }
+
+    @Test
+    void verify_tokenWithinClockSkew_isServedFromCache() throws Exception {
+        MutableClock clock = new MutableClock(Instant.now());
+        TokenVerifierImpl verifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, true, clock);
+        String token = standIn.token(UUID.randomUUID(), JwksStandIn.ISSUER, "access", clock.instant().plusSeconds(30));
+
+        TokenPrincipal first = verifier.verify(token);
+        clock.advance(Duration.ofSeconds(30 + TokenVerifierImpl.CLOCK_SKEW.getSeconds() / 2));
+        TokenPrincipal second = verifier.verify(token);
+
+        assertSame(first, second);
+        assertEquals(1, verifier.cacheStats().hits());
+    }
+
+    @Test
+    void verify_unverifiedTokenPastClockSkew_isNotCached() throws Exception {
+        TokenVerifierImpl verifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, false, Clock.systemUTC());
+        String token = standIn.token(UUID.randomUUID(), JwksStandIn.ISSUER, "access",
+                Instant.now().minus(TokenVerifierImpl.CLOCK_SKEW).minusSeconds(1));
+
+        verifier.verify(token);
+
+        assertEquals(0, verifier.cacheStats().size());
+    }
+
+    @Test
+    void verify_moreTokensThanCacheSize_evictsLeastRecentlyUsed() throws Exception {
+        TokenVerifierImpl verifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, true, Clock.systemUTC(), 2);
+        String first = standIn.token(UUID.randomUUID());
+        String second = standIn.token(UUID.randomUUID());
+        String third = standIn.token(UUID.randomUUID());
+
+        verifier.verify(first);
+        verifier.verify(second);
+        verifier.verify(first);
+        verifier.verify(third);
+        verifier.verify(first);
+        verifier.verify(second);
+
+        TokenCacheStats stats = verifier.cacheStats();
+        assertEquals(2, stats.hits());
+        assertEquals(4, stats.misses());
+        assertEquals(2, stats.evictions());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void verify_cacheDisabled_verifiesEveryCall() throws Exception {
+        TokenVerifierImpl verifier = new TokenVerifierImpl(jwksProvider, JwksStandIn.ISSUER, true, Clock.systemUTC(), 0);
+        String token = standIn.token(UUID.randomUUID());
+
+        verifier.verify(token);
+        verifier.verify(token);
+
+        assertEquals(new TokenCacheStats(0, 0, 0, 0), verifier.cacheStats());
+    }
+
+    @Test
+    void verify_expiredToken_throwsUnauthorized() {
+        String token = standIn.token(UUID.randomUUID(), JwksStandIn.ISSUER, "access",
+                Instant.now().minus(TokenVerifierImpl.CLOCK_SKEW).minusSeconds(1));
+
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class, () -> tokenVerifier.verify(token));
+        assertEquals("Token has expired", exception.getMessage());
+    }
+
+    @Test
+    void verify_otherIssuer_throwsUnauthorized() {
+        String token = standIn.token(UUID.randomUUID(), "https://cognito-idp.us-east-1.amazonaws.com/other",
+                "access", Instant.now().plusSeconds(600));
+
+        assertThrows(UnauthorizedException.class, () -> tokenVerifier.verify(token));
+    }
+
+    @Test
+    void verify_idToken_throwsUnauthorized() {
+        String token = standIn.token(UUID.randomUUID(), JwksStandIn.ISSUER, "id", Instant.now().plusSeconds(600));
+
+        assertThrows(UnauthorizedException.class, () -> tokenVerifier.verify(token));
+    }
+
+    @Test
+    void verify_tamperedPayload_throwsUnauthorized() {
+        String[] parts = standIn.token(UUID.randomUUID()).split("\\.");
+        String forged = standIn.token(UUID.randomUUID()).split("\\.")[1];
+
+        assertThrows(UnauthorizedException.class,
+                () -> tokenVerifier.verify(parts[0] + "." + forged + "." + parts[2]));
+    }
+
+    @Test
+    void verify_unpublishedKey_throwsUnauthorized() throws Exception {
+        String token = JwksStandIn.token(JwksStandIn.generateKey("attacker"), UUID.randomUUID(),
+                JwksStandIn.ISSUER, "access", Instant.now().plusSeconds(600));
+
+        assertThrows(UnauthorizedException.class, () -> tokenVerifier.verify(token));
+        assertThrows(UnauthorizedException.class, () -> tokenVerifier.verify(token));
+        assertEquals(1, standIn.requests());
+    }
+
+    @Test
+    void verify_hmacSignedToken_throwsUnauthorized() throws Exception {
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder().subject(UUID.randomUUID().toString()).build());
+        signedJWT.sign(new MACSigner("0123456789abcdef0123456789abcdef"));
+
+        assertThrows(UnauthorizedException.class, () -> tokenVerifier.verify(signedJWT.serialize()));
+    }
+
+    @Test
+    void verify_disabled_onlyParsesTheToken() throws Exception {
+        TokenVerifierImpl parseOnly = new TokenVerifierImpl(null, null, false, Clock.systemUTC());
+        SignedJWT signedJWT = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256),
+                new JWTClaimsSet.Builder().subject("user").build());
+        signedJWT.sign(new MACSigner("0123456789abcdef0123456789abcdef"));
+
+        assertEquals("user", parseOnly.verify(signedJWT.serialize()).subject());
+    }
+
+    @Test
+    void constructor_enabledWithoutIssuer_failsFast() {
+        assertThrows(IllegalStateException.class,
+                () -> new TokenVerifierImpl(null, " ", true, Clock.systemUTC()));
+    }
+
+    @Test
+    void digest_doesNotKeepTheRawToken() {
+        String token = standIn.token(UUID.randomUUID());
+
+        String digest = VerifiedTokenCache.digest(token);
+
+        assertEquals(64, digest.length());
+        assertEquals(digest, VerifiedTokenCache.digest(token));
+        assertFalse(token.contains(digest));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
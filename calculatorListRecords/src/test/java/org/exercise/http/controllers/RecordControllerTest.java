@@ -1,6 +1,17 @@
 package org.exercise.http.controllers;
 
-import org.exercise.core.entities.Record;
+import jakarta.servlet.http.HttpServletResponse;
+import org.exercise.core.dtos.RecordExport;
+import org.exercise.core.dtos.RecordFilter;
+import org.exercise.core.dtos.RecordPage;
+import org.exercise.core.dtos.RecordSlice;
+import org.exercise.core.dtos.RecordStats;
+import org.exercise.core.dtos.RecordView;
+import org.exercise.core.enums.ExportFormat;
+import org.exercise.core.enums.OperationType;
+import org.exercise.core.enums.TotalMode;
+import org.exercise.core.exceptions.BadRequestException;
+import org.exercise.core.exceptions.NotFoundException;
 import org.exercise.core.interfaces.RecordService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,8 +24,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -47,13 +62,15 @@ class RecordControllerTest {
         int page = 0;
         int size = 10;
 
-        Record mockRecord = new Record();
-        List<Record> recordList = Collections.singletonList(mockRecord);
-        Page<Record> mockPage = new PageImpl<>(recordList);
+        RecordView mockRecord = new RecordView(UUID.randomUUID(), OperationType.ADDITION, 5, 95, "10", ZonedDateTime.now());
+        List<RecordView> recordList = Collections.singletonList(mockRecord);
+        Page<RecordView> mockPage = new PageImpl<>(recordList);
 
-        when(recordService.getRecords(accessToken, page, size, "")).thenReturn(mockPage);
+        RecordFilter filter = RecordFilter.none();
 
-        ResponseEntity<Page<Record>> response = recordController.getRecords(accessToken, page, size, "");
+        when(recordService.getRecords(accessToken, page, size, "", filter)).thenReturn(mockPage);
+
+        ResponseEntity<Page<RecordView>> response = recordController.getRecords(accessToken, page, size, "", filter);
 
         ArgumentCaptor<String> tokenCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Integer> pageCaptor = ArgumentCaptor.forClass(Integer.class);
@@ -63,7 +80,8 @@ class RecordControllerTest {
                 tokenCaptor.capture(),
                 pageCaptor.capture(),
                 sizeCaptor.capture(),
-                eq("")
+                eq(""),
+                eq(filter)
         );
 
         assertEquals(accessToken, tokenCaptor.getValue());
@@ -75,4 +93,90 @@ class RecordControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(1, response.getBody().getContent().size());
     }
+
+    @Test
+    void testGetRecordPage() {
+        String accessToken = "mockAccessToken";
+        RecordFilter filter = RecordFilter.none();
+        RecordPage page = new RecordPage(Collections.emptyList(), 0, 10, false, 0L);
+
+        when(recordService.getRecordPage(accessToken, 0, 10, "data", filter, TotalMode.NONE)).thenReturn(page);
+
+        ResponseEntity<RecordPage> response = recordController.getRecordPage(accessToken, "none", 0, 10, "data", filter);
+
+        verify(recordService, times(1)).getRecordPage(accessToken, 0, 10, "data", filter, TotalMode.NONE);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void testGetRecordsByCursor() {
+        String accessToken = "mockAccessToken";
+        RecordSlice slice = new RecordSlice(Collections.emptyList(), 10, true, "next");
+
+        RecordFilter filter = new RecordFilter(List.of("division"), null, null, null, null, null);
+
+        when(recordService.getRecordsByCursor(accessToken, "", 10, "data", filter)).thenReturn(slice);
+
+        ResponseEntity<RecordSlice> response = recordController.getRecordsByCursor(accessToken, "", 10, "data", filter);
+
+        verify(recordService, times(1)).getRecordsByCursor(accessToken, "", 10, "data", filter);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("next", response.getBody().nextCursor());
+        assertTrue(response.getBody().hasNext());
+    }
+
+    @Test
+    void testGetRecordStats() {
+        String accessToken = "mockAccessToken";
+        RecordStats stats = new RecordStats(3L, 15L, Collections.emptyList(), Collections.emptyList());
+
+        when(recordService.getRecordStats(accessToken, 30)).thenReturn(stats);
+
+        ResponseEntity<RecordStats> response = recordController.getRecordStats(accessToken, 30);
+
+        verify(recordService, times(1)).getRecordStats(accessToken, 30);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(stats, response.getBody());
+    }
+
+    @Test
+    void testExportRecords() throws Exception {
+        String accessToken = "mockAccessToken";
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        PrintWriter writer = new PrintWriter(new StringWriter());
+
+        RecordExport export = new RecordExport(UUID.randomUUID(), ExportFormat.CSV, 20000, true);
+
+        when(response.getWriter()).thenReturn(writer);
+        when(recordService.prepareExport(accessToken, ExportFormat.CSV)).thenReturn(export);
+
+        recordController.exportRecords(accessToken, "csv", response);
+
+        verify(response).setContentType("text/csv");
+        verify(response).setHeader("Content-Disposition", "attachment; filename=\"records.csv\"");
+        verify(response).setHeader("X-Export-Max-Rows", "20000");
+        verify(response).setHeader("X-Export-Truncated", "true");
+        verify(recordService).writeExport(export, writer);
+    }
+
+    @Test
+    void testExportRecords_UnknownUserWritesNoHeaders() {
+        String accessToken = "mockAccessToken";
+        HttpServletResponse response = mock(HttpServletResponse.class);
+
+        when(recordService.prepareExport(accessToken, ExportFormat.CSV))
+                .thenThrow(new NotFoundException("User was not found. Please try logging in again"));
+
+        assertThrows(NotFoundException.class, () -> recordController.exportRecords(accessToken, "csv", response));
+        verifyNoInteractions(response);
+    }
+
+    @Test
+    void testExportRecords_UnknownFormat() {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+
+        assertThrows(BadRequestException.class, () -> recordController.exportRecords("mockAccessToken", "xml", response));
+        verifyNoInteractions(recordService);
+    }
 }
@@ -2,8 +2,10 @@ package org.exercise.http.handlers;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import org.exercise.core.dtos.ResponseTemplate;
+import org.exercise.core.exceptions.BadRequestException;
 import org.exercise.core.exceptions.InternalErrorException;
 import org.exercise.core.exceptions.NotFoundException;
+import org.exercise.core.exceptions.UnauthorizedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -44,6 +46,22 @@ class GlobalExceptionHandlerTest {
         assertEquals("No endpoint GET /test.", response.getBody().message());
     }
 
+    @Test
+    void handleBadRequestException_shouldReturnBadRequest() {
+        BadRequestException ex = new BadRequestException("Invalid cursor for the requested ordering");
+        ResponseEntity<ResponseTemplate> response = exceptionHandler.handleBadRequestException(ex);
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid cursor for the requested ordering", response.getBody().message());
+    }
+
+    @Test
+    void handleUnauthorizedException_shouldReturnUnauthorized() {
+        UnauthorizedException ex = new UnauthorizedException("Token has expired");
+        ResponseEntity<ResponseTemplate> response = exceptionHandler.handleUnauthorizedException(ex);
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Token has expired", response.getBody().message());
+    }
+
     @Test
     void handleNotFoundException_shouldReturnNotFound() {
         NotFoundException ex = new NotFoundException("Not found");
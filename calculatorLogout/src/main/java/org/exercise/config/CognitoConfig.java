@@ -1,23 +1,79 @@
 package org.exercise.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClientBuilder;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.CognitoIdentityProviderException;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GetUserRequest;
+
+import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class CognitoConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(CognitoConfig.class);
+    private static final String PREWARM_TOKEN = "prewarm";
+
     @Value("${aws.region}")
     private String region;
 
+    @Value("${aws.cognito.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.cognito.prewarm:false}")
+    private boolean prewarm;
+
+    @Value("${aws.cognito.connectionTimeoutMillis:2000}")
+    private long connectionTimeoutMillis = 2000;
+
+    @Value("${aws.cognito.socketTimeoutMillis:5000}")
+    private long socketTimeoutMillis = 5000;
+
     @Bean
     public CognitoIdentityProviderClient cognitoClient() {
-        return CognitoIdentityProviderClient.builder()
-                .credentialsProvider(DefaultCredentialsProvider.create())
-                .region(Region.of(region))
-                .build();
+        AwsCredentialsProvider credentialsProvider = DefaultCredentialsProvider.create();
+
+        CognitoIdentityProviderClientBuilder builder = CognitoIdentityProviderClient.builder()
+                .httpClientBuilder(UrlConnectionHttpClient.builder()
+                        .connectionTimeout(Duration.ofMillis(connectionTimeoutMillis))
+                        .socketTimeout(Duration.ofMillis(socketTimeoutMillis)))
+                .credentialsProvider(credentialsProvider)
+                .region(Region.of(region));
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+
+        CognitoIdentityProviderClient client = builder.build();
+        logger.info("Cognito client created for region {}", region);
+
+        if (prewarm) {
+            prewarm(client, credentialsProvider);
+        }
+
+        return client;
+    }
+
+    static void prewarm(CognitoIdentityProviderClient client, AwsCredentialsProvider credentialsProvider) {
+        long start = System.nanoTime();
+        try {
+            credentialsProvider.resolveCredentials();
+            client.getUser(GetUserRequest.builder().accessToken(PREWARM_TOKEN).build());
+        } catch (CognitoIdentityProviderException e) {
+            logger.debug("Pre-warm request rejected as expected: {}", e.getMessage());
+        } catch (SdkException e) {
+            logger.warn("Could not pre-warm Cognito client, the first logout will open the connection: {}", e.getMessage());
+            return;
+        }
+        logger.info("Cognito client pre-warmed in {} ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
     }
 }
@@ -1,7 +1,6 @@
 package org.exercise.core.services;
 
 import lombok.RequiredArgsConstructor;
-import org.exercise.config.CognitoConfig;
 import org.exercise.core.exceptions.LogoutException;
 import org.exercise.core.interfaces.UserService;
 import org.slf4j.Logger;
@@ -11,16 +10,13 @@ import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityPr
 import software.amazon.awssdk.services.cognitoidentityprovider.model.CognitoIdentityProviderException;
 import software.amazon.awssdk.services.cognitoidentityprovider.model.GlobalSignOutRequest;
 
-import java.util.function.Supplier;
-
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
 
-    private final CognitoConfig cognitoConfig;
-    private final Supplier<CognitoIdentityProviderClient> cognitoClientSupplier = this::createCognitoClient;
+    private final CognitoIdentityProviderClient cognitoClient;
 
     @Override
     public void logoutUser(String accessToken) {
@@ -32,14 +28,14 @@ public class UserServiceImpl implements UserService {
                     .build();
 
             logger.debug("Sending GlobalSignOutRequest to Cognito.");
-            cognitoClientSupplier.get().globalSignOut(signOutRequest);
+            cognitoClient.globalSignOut(signOutRequest);
             logger.info("Logout successful for the user with access token: {}", maskToken(accessToken));
         } catch (CognitoIdentityProviderException e) {
             logger.error("CognitoIdentityProviderException occurred during logout: {}. AWS error details: {}",
                     e.getMessage(), e.awsErrorDetails().errorMessage());
             throw new LogoutException("Logout failed: " + e.awsErrorDetails().errorMessage());
         } catch (IllegalStateException e) {
-            logger.error("IllegalStateException detected: connection pool might have been shut down. Reinitializing client...");
+            logger.error("IllegalStateException detected: Cognito client has been closed: {}", e.getMessage());
             throw new LogoutException("Cognito client is unavailable. Please try again later.");
         } catch (Exception e) {
             logger.error("Unexpected error during logout: {}", e.getMessage(), e);
@@ -47,11 +43,6 @@ public class UserServiceImpl implements UserService {
         }
     }
 
-    private CognitoIdentityProviderClient createCognitoClient() {
-        logger.info("Initializing Cognito client.");
-        return cognitoConfig.cognitoClient();
-    }
-
     String maskToken(String token) {
         if (token == null || token.length() < 10) {
             return "N/A";
@@ -0,0 +1,157 @@
+package org.exercise.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.services.cognitoidentityprovider.CognitoIdentityProviderClient;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.GlobalSignOutRequest;
+import software.amazon.awssdk.services.cognitoidentityprovider.model.NotAuthorizedException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CognitoStandInTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(CognitoStandInTest.class);
+    private static final int CALLS = 50;
+    private static final String REJECTED_TOKEN = "prewarm";
+
+    private static HttpServer server;
+    private static final AtomicInteger signOuts = new AtomicInteger();
+    private static final AtomicInteger getUsers = new AtomicInteger();
+    private static final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+
+    @BeforeAll
+    static void startStandIn() throws IOException {
+        System.setProperty("aws.accessKeyId", "test");
+        System.setProperty("aws.secretAccessKey", "test");
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", CognitoStandInTest::handle);
+        server.start();
+    }
+
+    @AfterAll
+    static void stopStandIn() {
+        server.stop(0);
+        System.clearProperty("aws.accessKeyId");
+        System.clearProperty("aws.secretAccessKey");
+    }
+
+    @BeforeEach
+    void reset() {
+        signOuts.set(0);
+        getUsers.set(0);
+        connections.clear();
+    }
+
+    @Test
+    void sharedClient_perCallLatencyAgainstClientPerCall() throws Exception {
+        try (CognitoIdentityProviderClient client = cognitoConfig().cognitoClient()) {
+            client.globalSignOut(signOut("warmup"));
+            connections.clear();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                client.globalSignOut(signOut("token-" + i));
+            }
+            long sharedNanos = System.nanoTime() - start;
+            int sharedConnections = connections.size();
+
+            connections.clear();
+            start = System.nanoTime();
+            for (int i = 0; i < CALLS; i++) {
+                try (CognitoIdentityProviderClient perCallClient = cognitoConfig().cognitoClient()) {
+                    perCallClient.globalSignOut(signOut("token-" + i));
+                }
+            }
+            long perCallNanos = System.nanoTime() - start;
+            int perCallConnections = connections.size();
+
+            logger.info("Shared client: {} ms/call over {} connections",
+                    String.format("%.3f", sharedNanos / 1e6 / CALLS), sharedConnections);
+            logger.info("Client per call: {} ms/call over {} connections",
+                    String.format("%.3f", perCallNanos / 1e6 / CALLS), perCallConnections);
+
+            assertEquals(2 * CALLS + 1, signOuts.get());
+        }
+    }
+
+    @Test
+    void prewarm_rejectedToken_leavesClientReady() throws Exception {
+        try (CognitoIdentityProviderClient client = cognitoConfig().cognitoClient()) {
+            assertThrows(NotAuthorizedException.class, () -> client.globalSignOut(signOut(REJECTED_TOKEN)));
+
+            assertDoesNotThrow(() -> CognitoConfig.prewarm(client, DefaultCredentialsProvider.create()));
+            assertDoesNotThrow(() -> client.globalSignOut(signOut("token")));
+            assertEquals(2, signOuts.get());
+            assertEquals(1, getUsers.get());
+        }
+    }
+
+    @Test
+    void prewarm_signsNobodyOut() throws Exception {
+        try (CognitoIdentityProviderClient client = cognitoConfig().cognitoClient()) {
+            CognitoConfig.prewarm(client, DefaultCredentialsProvider.create());
+
+            assertEquals(0, signOuts.get());
+            assertEquals(1, getUsers.get());
+        }
+    }
+
+    private static CognitoConfig cognitoConfig() throws Exception {
+        CognitoConfig cognitoConfig = new CognitoConfig();
+        setPrivateField(cognitoConfig, "region", "us-east-1");
+        setPrivateField(cognitoConfig, "endpoint", "http://localhost:" + server.getAddress().getPort());
+        return cognitoConfig;
+    }
+
+    private static GlobalSignOutRequest signOut(String accessToken) {
+        return GlobalSignOutRequest.builder().accessToken(accessToken).build();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+        if (target != null && target.endsWith(".GetUser")) {
+            getUsers.incrementAndGet();
+        } else {
+            signOuts.incrementAndGet();
+        }
+        connections.add(exchange.getRemoteAddress().getPort());
+
+        boolean rejected = request.contains("\"" + REJECTED_TOKEN + "\"");
+        byte[] body = (rejected
+                ? "{\"__type\":\"NotAuthorizedException\",\"message\":\"Invalid Access Token\"}"
+                : "{}").getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.1");
+        if (rejected) {
+            exchange.getResponseHeaders().add("x-amzn-ErrorType", "NotAuthorizedException");
+        }
+        exchange.sendResponseHeaders(rejected ? 400 : 200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private static void setPrivateField(Object targetObject, String fieldName, Object value) throws Exception {
+        Field field = CognitoConfig.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(targetObject, value);
+    }
+}
@@ -1,6 +1,5 @@
 package org.exercise.core.services;
 
-import org.exercise.config.CognitoConfig;
 import org.exercise.core.exceptions.LogoutException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,9 +14,6 @@ import static org.mockito.Mockito.*;
 
 class UserServiceImplTest {
 
-    @Mock
-    private CognitoConfig cognitoConfig;
-
     @Mock
     private CognitoIdentityProviderClient cognitoClient;
 
@@ -26,8 +22,7 @@ class UserServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        when(cognitoConfig.cognitoClient()).thenReturn(cognitoClient);
-        userService = new UserServiceImpl(cognitoConfig);
+        userService = new UserServiceImpl(cognitoClient);
     }
 
     @Test
@@ -43,6 +38,15 @@ class UserServiceImplTest {
         verifyNoMoreInteractions(cognitoClient);
     }
 
+    @Test
+    void logoutUser_reusesTheSameClient() {
+        assertDoesNotThrow(() -> userService.logoutUser("firstAccessToken"));
+        assertDoesNotThrow(() -> userService.logoutUser("secondAccessToken"));
+
+        verify(cognitoClient, times(2)).globalSignOut(any(GlobalSignOutRequest.class));
+        verify(cognitoClient, never()).close();
+    }
+
     @Test
     void logoutUser_cognitoException() {
         String accessToken = "dummyAccessToken";
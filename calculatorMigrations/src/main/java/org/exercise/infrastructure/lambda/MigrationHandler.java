@@ -0,0 +1,17 @@
+package org.exercise.infrastructure.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import org.exercise.infrastructure.persistence.SchemaMigrator;
+import org.flywaydb.core.api.output.MigrateResult;
+
+import java.util.Map;
+
+public class MigrationHandler implements RequestHandler<Map<String, Object>, String> {
+
+    @Override
+    public String handleRequest(Map<String, Object> input, Context context) {
+        MigrateResult result = new SchemaMigrator().migrate();
+        return "Applied " + result.migrationsExecuted + " migrations, schema version " + result.targetSchemaVersion;
+    }
+}
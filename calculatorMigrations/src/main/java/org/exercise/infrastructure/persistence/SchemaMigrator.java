@@ -0,0 +1,55 @@
+package org.exercise.infrastructure.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+public class SchemaMigrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaMigrator.class);
+    static final String LOCATION = "classpath:db/migration";
+
+    private final String url;
+    private final String username;
+    private final String password;
+
+    public SchemaMigrator() {
+        this(System.getenv());
+    }
+
+    SchemaMigrator(Map<String, String> environment) {
+        this.url = jdbcUrl(environment);
+        this.username = environment.get("DB_USER");
+        this.password = environment.get("DB_PASSWORD");
+    }
+
+    static String jdbcUrl(Map<String, String> environment) {
+        String host = environment.get("DB_HOST");
+        String name = environment.get("DB_NAME");
+        if (host == null || host.isBlank() || name == null || name.isBlank()) {
+            throw new IllegalStateException("DB_HOST and DB_NAME must be set to run the migrations");
+        }
+        return String.format("jdbc:postgresql://%s:%s/%s", host, environment.getOrDefault("DB_PORT", "5432"), name);
+    }
+
+    public MigrateResult migrate() {
+        Flyway flyway = Flyway.configure()
+                .dataSource(url, username, password)
+                .locations(LOCATION)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .load();
+
+        MigrateResult result = flyway.migrate();
+        logger.info("Applied {} migrations, schema is now at version {}",
+                result.migrationsExecuted, result.targetSchemaVersion);
+        return result;
+    }
+
+    public static void main(String[] args) {
+        new SchemaMigrator().migrate();
+    }
+}
@@ -0,0 +1,30 @@
+CREATE TABLE IF NOT EXISTS tb_balances (
+    id     UUID    NOT NULL PRIMARY KEY,
+    amount INTEGER NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_users (
+    id         UUID         NOT NULL PRIMARY KEY,
+    username   VARCHAR(255) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    email      VARCHAR(255) NOT NULL UNIQUE,
+    active     BOOLEAN      NOT NULL,
+    balance_id UUID UNIQUE REFERENCES tb_balances (id)
+);
+
+CREATE TABLE IF NOT EXISTS tb_operations (
+    id   UUID         NOT NULL PRIMARY KEY,
+    type VARCHAR(255) NOT NULL UNIQUE,
+    cost INTEGER      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tb_records (
+    id                 UUID                        NOT NULL PRIMARY KEY,
+    operation_id       UUID                        NOT NULL REFERENCES tb_operations (id),
+    user_id            UUID                        NOT NULL REFERENCES tb_users (id),
+    amount             INTEGER                     NOT NULL,
+    user_balance       INTEGER                     NOT NULL,
+    operation_response TEXT                        NOT NULL,
+    date               TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    deleted            BOOLEAN                     NOT NULL
+);
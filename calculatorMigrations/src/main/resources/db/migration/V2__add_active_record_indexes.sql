@@ -0,0 +1,9 @@
+-- Listing ordered by date and keyset pagination on (date, id)
+CREATE INDEX IF NOT EXISTS idx_records_user_date_active
+    ON tb_records (user_id, date, id)
+    WHERE deleted = false;
+
+-- Listing ordered by operation type, joined through operation_id
+CREATE INDEX IF NOT EXISTS idx_records_user_operation_active
+    ON tb_records (user_id, operation_id, date, id)
+    WHERE deleted = false;
@@ -0,0 +1,17 @@
+-- Per-user usage summary maintained by the create-operation and delete-records services
+CREATE TABLE IF NOT EXISTS tb_record_stats (
+    user_id        UUID         NOT NULL REFERENCES tb_users (id),
+    operation_type VARCHAR(255) NOT NULL,
+    record_count   BIGINT       NOT NULL,
+    total_spent    BIGINT       NOT NULL,
+    PRIMARY KEY (user_id, operation_type)
+);
+
+-- Backfill from the records that are not deleted
+INSERT INTO tb_record_stats (user_id, operation_type, record_count, total_spent)
+SELECT r.user_id, o.type, COUNT(*), SUM(r.amount)
+FROM tb_records r
+         JOIN tb_operations o ON o.id = r.operation_id
+WHERE r.deleted = false
+GROUP BY r.user_id, o.type
+ON CONFLICT (user_id, operation_type) DO NOTHING;
@@ -0,0 +1,16 @@
+-- Soft-deleted records moved out of tb_records by the delete-records purge job
+CREATE TABLE IF NOT EXISTS tb_records_archive (
+    id                 UUID                        NOT NULL PRIMARY KEY,
+    operation_id       UUID                        NOT NULL,
+    user_id            UUID                        NOT NULL,
+    amount             INTEGER                     NOT NULL,
+    user_balance       INTEGER                     NOT NULL,
+    operation_response TEXT                        NOT NULL,
+    date               TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    archived_at        TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Oldest soft-deleted records first, for the purge batches
+CREATE INDEX IF NOT EXISTS idx_records_deleted_date
+    ON tb_records (date)
+    WHERE deleted = true;
@@ -0,0 +1,15 @@
+-- When a record was soft deleted, so the purge retention counts from the deletion
+ALTER TABLE tb_records ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE tb_records_archive ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6) WITH TIME ZONE;
+
+-- Records deleted before this migration get a full retention window from now
+UPDATE tb_records
+SET deleted_at = NOW()
+WHERE deleted = true
+  AND deleted_at IS NULL;
+
+-- Oldest deletions first, for the purge batches
+DROP INDEX IF EXISTS idx_records_deleted_date;
+CREATE INDEX IF NOT EXISTS idx_records_deleted_at
+    ON tb_records (deleted_at)
+    WHERE deleted = true;
@@ -0,0 +1,4 @@
+-- The type-ordered listings sort by tb_operations.type through the join, then date and id descending.
+-- operation_id order is not type order, so this index never served that ORDER BY and only slowed writes.
+-- Those listings filter through idx_records_user_date_active and sort the user's records.
+DROP INDEX IF EXISTS idx_records_user_operation_active;
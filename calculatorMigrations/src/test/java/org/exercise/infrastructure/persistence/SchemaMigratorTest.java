@@ -0,0 +1,42 @@
+package org.exercise.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    @Test
+    void jdbcUrl_usesLambdaDatabaseVariables() {
+        Map<String, String> environment = Map.of("DB_HOST", "db.local", "DB_PORT", "6543", "DB_NAME", "calculator");
+
+        assertEquals("jdbc:postgresql://db.local:6543/calculator", SchemaMigrator.jdbcUrl(environment));
+    }
+
+    @Test
+    void jdbcUrl_missingPort_usesDefault() {
+        Map<String, String> environment = Map.of("DB_HOST", "db.local", "DB_NAME", "calculator");
+
+        assertEquals("jdbc:postgresql://db.local:5432/calculator", SchemaMigrator.jdbcUrl(environment));
+    }
+
+    @Test
+    void jdbcUrl_missingHost_throwsIllegalStateException() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> SchemaMigrator.jdbcUrl(Map.of("DB_NAME", "calculator")));
+
+        assertEquals("DB_HOST and DB_NAME must be set to run the migrations", exception.getMessage());
+    }
+
+    @Test
+    void migrations_areOnTheClasspath() {
+        assertNotNull(getClass().getResource("/db/migration/V1__create_schema.sql"));
+        assertNotNull(getClass().getResource("/db/migration/V2__add_active_record_indexes.sql"));
+        assertNotNull(getClass().getResource("/db/migration/V3__create_record_stats.sql"));
+        assertNotNull(getClass().getResource("/db/migration/V4__create_records_archive.sql"));
+        assertNotNull(getClass().getResource("/db/migration/V5__add_records_deleted_at.sql"));
+        assertNotNull(getClass().getResource("/db/migration/V6__drop_records_user_operation_index.sql"));
+    }
+}